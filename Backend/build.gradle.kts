@@ -23,6 +23,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.projectlombok:lombok")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.thymeleaf.extras:thymeleaf-extras-springsecurity6")
@@ -43,4 +44,29 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    // 가상 스레드가 synchronized 구간에서 캐리어 스레드에 고정(pinning)되면 스택 출력
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+
+// 동시 클라이언트 처리량 측정 (서버를 --custom.rateLimit.enabled=false 로 먼저 실행한 뒤 사용)
+// ./gradlew loadBenchmark -PbenchArgs="http://localhost:8080 1000 30"
+tasks.register<JavaExec>("loadBenchmark") {
+    group = "verification"
+    description = "Measures API throughput with many concurrent clients against a running server"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.backend.bench.OrdersLoadBenchmark")
+    args = (findProperty("benchArgs") as String? ?: "http://localhost:8080 1000 30").split(" ")
+}
+
+// 액세스 토큰 검증 전후 비교 마이크로 벤치마크 (서버 불필요)
+// ./gradlew tokenBenchmark -PbenchArgs="5 1"
+tasks.register<JavaExec>("tokenBenchmark") {
+    group = "verification"
+    description = "Compares uncached and cached access token verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.backend.bench.AuthTokenBenchmark")
+    args = (findProperty("benchArgs") as String? ?: "5 1").split(" ")
+}
@@ -2,13 +2,17 @@ package com.backend.domain.admin.auth.controller;
 
 import com.backend.domain.admin.auth.dto.LoginRequest;
 import com.backend.domain.admin.auth.dto.LoginResponse;
+import com.backend.domain.admin.auth.dto.TokenRefreshRequest;
 import com.backend.domain.admin.auth.entity.Admin;
 import com.backend.domain.admin.auth.service.AdminAuthService;
-import com.backend.domain.admin.auth.service.AuthTokenService;
+import com.backend.domain.admin.auth.service.AdminLoginThrottle;
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService;
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService.IssuedTokens;
 import com.backend.global.exception.ErrorCode;
 import com.backend.global.exception.ServiceException;
 import com.backend.global.rq.Rq;
 import com.backend.global.rsData.RsData;
+import com.backend.standard.ratelimit.TokenBucketRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,36 +22,69 @@ import org.springframework.web.bind.annotation.*;
 public class AdminAuthController {
 
     private final AdminAuthService adminAuthService;
-    private final AuthTokenService authTokenService;
+    private final AdminRefreshTokenService adminRefreshTokenService;
+    private final AdminLoginThrottle adminLoginThrottle;
     private final Rq rq;
 
     @PostMapping("/login")
     public RsData<LoginResponse> login(
             @RequestBody LoginRequest loginReqBody
     ) {
+        // 아이디 조회/비밀번호 검증 전에 IP, 아이디별 시도 횟수 제한
+        TokenBucketRegistry.Decision decision = adminLoginThrottle.tryAcquire(rq.getClientIp(), loginReqBody.username());
+        if (!decision.allowed()) {
+            rq.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+            throw new ServiceException(ErrorCode.ADMIN_LOGIN_THROTTLED);
+        }
 
         Admin admin = adminAuthService.findByUsername(loginReqBody.username())
                 .orElseThrow(() -> new ServiceException(ErrorCode.ADMIN_NOT_FOUND)
                 );
 
         adminAuthService.checkPassword(loginReqBody.password(), admin.getPassword());
-        String accessToken = authTokenService.genAccessToken(admin);
+        IssuedTokens tokens = adminRefreshTokenService.issue(admin.getId(), admin.getUsername());
 
-        LoginResponse loginResponse= new LoginResponse(accessToken);
-
-        rq.setCookie("accessToken", accessToken);
+        setTokenCookies(tokens);
 
         return new RsData(
                 "200-1",
                 "로그인 성공",
-                loginResponse
+                new LoginResponse(tokens.accessToken(), tokens.refreshToken())
+        );
+    }
+
+    // 리프레시 토큰으로 액세스 토큰 재발급 (사용한 리프레시 토큰은 폐기되고 새 토큰으로 교체)
+    @PostMapping("/token/refresh")
+    public RsData<LoginResponse> refresh(
+            @RequestBody(required = false) TokenRefreshRequest refreshReqBody
+    ) {
+        String refreshToken = rq.getCookieValue("refreshToken", "");
+        if (refreshToken.isBlank() && refreshReqBody != null) {
+            refreshToken = refreshReqBody.refreshToken();
+        }
+
+        IssuedTokens tokens = adminRefreshTokenService.rotate(refreshToken);
+        setTokenCookies(tokens);
+
+        return new RsData<>(
+                "200-1",
+                "토큰 재발급 성공",
+                new LoginResponse(tokens.accessToken(), tokens.refreshToken())
         );
     }
 
     @DeleteMapping("/logout")
-    public RsData<Void> logout() {
+    public RsData<Void> logout(
+            @RequestBody(required = false) TokenRefreshRequest refreshReqBody
+    ) {
+        String refreshToken = rq.getCookieValue("refreshToken", "");
+        if (refreshToken.isBlank() && refreshReqBody != null) {
+            refreshToken = refreshReqBody.refreshToken();
+        }
+        adminRefreshTokenService.revoke(refreshToken);
 
         rq.deleteCookie("accessToken");
+        rq.deleteCookie("refreshToken");
 
         return new RsData<>(
                 "200-1",
@@ -55,4 +92,8 @@ public class AdminAuthController {
         );
     }
 
-}
\ No newline at end of file
+    private void setTokenCookies(IssuedTokens tokens) {
+        rq.setCookie("accessToken", tokens.accessToken());
+        rq.setCookie("refreshToken", tokens.refreshToken(), adminRefreshTokenService.getExpireSeconds());
+    }
+}
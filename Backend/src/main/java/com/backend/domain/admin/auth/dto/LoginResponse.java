@@ -1,5 +1,6 @@
 package com.backend.domain.admin.auth.dto;
 
 public record LoginResponse(
-            String accessToken
+            String accessToken,
+            String refreshToken
     ) { }
\ No newline at end of file
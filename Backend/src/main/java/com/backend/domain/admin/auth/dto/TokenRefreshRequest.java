@@ -0,0 +1,7 @@
+package com.backend.domain.admin.auth.dto;
+
+// 쿠키를 쓰지 않는 클라이언트용 (refreshToken 쿠키가 있으면 쿠키 우선)
+public record TokenRefreshRequest(
+            String refreshToken
+    ) {
+    }
@@ -0,0 +1,64 @@
+package com.backend.domain.admin.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 리프레시 토큰 발급/폐기 기록
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시만 저장
+ * - 한 번 로그인에서 이어지는 토큰은 같은 familyId, 재발급(rotate) 때마다 이전 토큰은 revokedAt 기록
+ * - 폐기된 토큰이 유예 시간(reuseGraceSeconds) 이후 다시 들어오면 탈취로 보고 family 전체를 폐기
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "admin_refresh_token",
+        indexes = {
+                @Index(name = "idx_admin_refresh_token_family", columnList = "family_id"),
+                @Index(name = "idx_admin_refresh_token_expires_at", columnList = "expires_at")
+        }
+)
+public class AdminRefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", length = 64, unique = true, nullable = false)
+    private String tokenHash;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    @Column(name = "admin_id", nullable = false)
+    private int adminId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public AdminRefreshToken(String tokenHash, String familyId, int adminId, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.adminId = adminId;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.domain.admin.auth.repository;
+
+import com.backend.domain.admin.auth.entity.AdminRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AdminRefreshTokenRepository extends JpaRepository<AdminRefreshToken, Long> {
+
+    Optional<AdminRefreshToken> findByTokenHash(String tokenHash);
+
+    // 아직 폐기되지 않은 경우에만 폐기 (영향받은 행 수 0 = 동시에 다른 요청이 먼저 사용)
+    @Modifying
+    @Query("UPDATE AdminRefreshToken t SET t.revokedAt = :now WHERE t.id = :id AND t.revokedAt IS NULL")
+    int revoke(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE AdminRefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // 만료된 토큰은 재사용 탐지에도 필요 없으므로 삭제
+    @Modifying
+    @Query("DELETE FROM AdminRefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,29 @@
+package com.backend.domain.admin.auth.scheduler;
+
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService;
+import com.backend.global.scheduling.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminRefreshTokenScheduler {
+
+    private final AdminRefreshTokenService adminRefreshTokenService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    // 만료된 리프레시 토큰 정리 (매시 30분, 폐기됐지만 만료 전인 토큰은 재사용 탐지를 위해 남겨 둠)
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeExpiredRefreshTokens() {
+        schedulerLeaseService.runExclusively("admin.purgeExpiredRefreshTokens", lease -> {
+            int deleted = adminRefreshTokenService.purgeExpired();
+            if (deleted > 0) {
+                log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+            }
+            return "deleted=" + deleted;
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.backend.domain.admin.auth.service;
 import com.backend.domain.admin.auth.entity.Admin;
 import com.backend.domain.admin.auth.repository.AdminAuthRepository;
 import com.backend.global.exception.ServiceException;
+import com.backend.global.security.BoundedPasswordEncoder;
 import com.backend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,9 +19,16 @@ public class AdminAuthService {
 
     private final AdminAuthRepository adminAuthRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AdminPrincipalCache adminPrincipalCache;
 
     public void checkPassword(String inputPassword, String rawPassword) {
-        if(!passwordEncoder.matches(inputPassword, rawPassword)) {
+        boolean matched;
+        try {
+            matched = passwordEncoder.matches(inputPassword, rawPassword);
+        } catch (BoundedPasswordEncoder.PasswordHashingBusyException e) {
+            throw new ServiceException(ErrorCode.ADMIN_LOGIN_BUSY);
+        }
+        if(!matched) {
             throw new ServiceException(ErrorCode.ADMIN_INVALID_PASSWORD);
         }
     }
@@ -33,10 +41,12 @@ public class AdminAuthService {
                 });
 
         Admin member = new Admin(username, passwordEncoder.encode(password));
-        return adminAuthRepository.save(member);
+        Admin saved = adminAuthRepository.save(member);
+        adminPrincipalCache.evict(saved);
+        return saved;
     }
 
     public Long count() { return adminAuthRepository.count(); }
 
-    public Optional<Admin> findByUsername(String username) { return adminAuthRepository.findByUsername(username); }
+    public Optional<Admin> findByUsername(String username) { return adminPrincipalCache.findByUsername(username); }
 }
\ No newline at end of file
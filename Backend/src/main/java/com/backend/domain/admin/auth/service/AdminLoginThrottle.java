@@ -0,0 +1,53 @@
+package com.backend.domain.admin.auth.service;
+
+import com.backend.standard.ratelimit.TokenBucketRegistry;
+import com.backend.standard.ratelimit.TokenBucketRegistry.Decision;
+import com.backend.standard.ratelimit.TokenBucketRegistry.Limit;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 관리자 로그인 시도 제한 (API 로그인 / 폼 로그인 공용)
+ * - IP 별, 아이디 별 토큰 버킷을 따로 두고 둘 다 남아 있을 때만 시도 허용
+ * - 비밀번호 검증(BCrypt) 과 DB 조회 전에 확인하므로 대량 시도는 CPU 를 쓰기 전에 걸러짐
+ */
+@Component
+public class AdminLoginThrottle {
+
+    @Value("${custom.admin.login.throttle.perIp.capacity:20}")
+    private int perIpCapacity;
+    @Value("${custom.admin.login.throttle.perIp.refillPerMinute:20}")
+    private int perIpRefillPerMinute;
+    @Value("${custom.admin.login.throttle.perUsername.capacity:5}")
+    private int perUsernameCapacity;
+    @Value("${custom.admin.login.throttle.perUsername.refillPerMinute:5}")
+    private int perUsernameRefillPerMinute;
+    @Value("${custom.admin.login.throttle.maxKeys:100000}")
+    private int maxKeys;
+
+    private Limit perIp;
+    private Limit perUsername;
+    private TokenBucketRegistry buckets;
+
+    @PostConstruct
+    void init() {
+        perIp = Limit.perMinute(perIpCapacity, perIpRefillPerMinute);
+        perUsername = Limit.perMinute(perUsernameCapacity, perUsernameRefillPerMinute);
+        buckets = new TokenBucketRegistry(64, maxKeys, Duration.ofMinutes(10));
+    }
+
+    public Decision tryAcquire(String clientIp, String username) {
+        Decision byIp = buckets.tryAcquire("ip:" + clientIp, perIp);
+        if (!byIp.allowed()) {
+            return byIp;
+        }
+        if (username == null || username.isBlank()) {
+            return byIp;
+        }
+        return buckets.tryAcquire("username:" + username.trim().toLowerCase(Locale.ROOT), perUsername);
+    }
+}
@@ -0,0 +1,76 @@
+package com.backend.domain.admin.auth.service;
+
+import com.backend.domain.admin.auth.entity.Admin;
+import com.backend.domain.admin.auth.repository.AdminAuthRepository;
+import com.backend.standard.cache.BoundedTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 관리자 조회 캐시 (id / username)
+ * - 관리자 페이지, API, 폼 로그인마다 admin 테이블을 조회하지 않도록 짧은 TTL 로 캐시
+ * - 트랜잭션 밖에서 동작 (캐시 적중 시 DB 커넥션을 잡지 않음)
+ * - 관리자 생성/변경 시 evict 로 바로 무효화, 누락되어도 TTL 뒤에는 다시 조회
+ * - 없는 관리자는 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminPrincipalCache {
+
+    private final AdminAuthRepository adminAuthRepository;
+
+    @Value("${custom.admin.principalCache.maxSize:1000}")
+    private int maxSize;
+    @Value("${custom.admin.principalCache.ttlSeconds:60}")
+    private long ttlSeconds;
+
+    private BoundedTtlCache<String, Admin> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedTtlCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public Optional<Admin> findByUsername(String username) {
+        Admin cached = cache.get(usernameKey(username));
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Admin> admin = adminAuthRepository.findByUsername(username);
+        admin.ifPresent(this::put);
+        return admin;
+    }
+
+    public Optional<Admin> findById(int id) {
+        Admin cached = cache.get(idKey(id));
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Admin> admin = adminAuthRepository.findById(id);
+        admin.ifPresent(this::put);
+        return admin;
+    }
+
+    public void evict(Admin admin) {
+        cache.invalidate(idKey(admin.getId()));
+        cache.invalidate(usernameKey(admin.getUsername()));
+    }
+
+    private void put(Admin admin) {
+        cache.put(idKey(admin.getId()), admin);
+        cache.put(usernameKey(admin.getUsername()), admin);
+    }
+
+    private static String idKey(int id) {
+        return "id:" + id;
+    }
+
+    private static String usernameKey(String username) {
+        return "username:" + username;
+    }
+}
@@ -0,0 +1,151 @@
+package com.backend.domain.admin.auth.service;
+
+import com.backend.domain.admin.auth.entity.Admin;
+import com.backend.domain.admin.auth.entity.AdminRefreshToken;
+import com.backend.domain.admin.auth.repository.AdminRefreshTokenRepository;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import com.backend.standard.cache.BoundedTtlCache;
+import com.backend.standard.ut.Ut;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 관리자 리프레시 토큰 발급/재발급(rotate)/폐기
+ * - 리프레시 토큰은 임의 문자열, DB 에는 해시만 저장 (admin_refresh_token)
+ * - 재발급 시 사용한 토큰은 폐기하고 같은 family 로 새 토큰 발급 → 한 토큰은 한 번만 사용 가능
+ * - 폐기된 토큰이 다시 들어오면(재사용) family 전체를 폐기해 탈취된 토큰과 정상 토큰 모두 무효화
+ * - 단, 폐기 후 reuseGraceSeconds 안의 재사용은 동시 요청(탭 여러 개, 재시도)으로 보고 방금 발급한 토큰을 그대로 반환
+ *   (발급 결과는 이 노드 메모리에만 보관 - 다른 노드에서 발급했으면 family 는 유지하고 409)
+ * - 액세스 토큰은 서명만 검증하므로(세션/DB 조회 없음) 어느 노드에서든 처리 가능
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminRefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_RECENT_ROTATIONS = 10_000;
+
+    private final AdminRefreshTokenRepository adminRefreshTokenRepository;
+    private final AdminPrincipalCache adminPrincipalCache;
+    private final AuthTokenService authTokenService;
+
+    @Getter
+    @Value("${custom.jwt.refresh.expireSeconds:1209600}")
+    private long expireSeconds;
+    @Value("${custom.jwt.refresh.reuseGraceSeconds:10}")
+    private long reuseGraceSeconds;
+
+    // 사용한 토큰 해시 → 그 토큰으로 발급한 결과 (유예 시간 동안만)
+    private BoundedTtlCache<String, IssuedTokens> recentRotations;
+
+    public record IssuedTokens(String accessToken, String refreshToken) {}
+
+    @PostConstruct
+    void init() {
+        recentRotations = new BoundedTtlCache<>(MAX_RECENT_ROTATIONS, Duration.ofSeconds(Math.max(reuseGraceSeconds, 1)));
+    }
+
+    // 로그인 - 새 family 로 발급
+    @Transactional
+    public IssuedTokens issue(int adminId, String username) {
+        String refreshToken = save(adminId, UUID.randomUUID().toString(), LocalDateTime.now());
+        return new IssuedTokens(authTokenService.genAccessToken(adminId, username), refreshToken);
+    }
+
+    // 재발급 - 실패해도 family 폐기는 커밋되어야 하므로 ServiceException 으로 롤백하지 않음
+    @Transactional(noRollbackFor = ServiceException.class)
+    public IssuedTokens rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new ServiceException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String tokenHash = Ut.hash.sha256(refreshToken);
+        AdminRefreshToken current = adminRefreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new ServiceException(ErrorCode.REFRESH_TOKEN_INVALID));
+
+        if (current.isExpired(now)) {
+            throw new ServiceException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+        // 이미 사용된 토큰 - 유예 시간 안이면 동시 요청, 지났으면 탈취로 봄
+        if (current.isRevoked()) {
+            return reuseWithinGrace(current, tokenHash, current.getRevokedAt(), now);
+        }
+        // 동시에 같은 토큰으로 들어온 다른 요청이 먼저 사용 (방금 폐기됨)
+        if (adminRefreshTokenRepository.revoke(current.getId(), now) == 0) {
+            return reuseWithinGrace(current, tokenHash, now, now);
+        }
+
+        Admin admin = adminPrincipalCache.findById(current.getAdminId()).orElse(null);
+        if (admin == null) {
+            revokeFamily(current, now);
+            throw new ServiceException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        String rotated = save(admin.getId(), current.getFamilyId(), now);
+        IssuedTokens issued = new IssuedTokens(authTokenService.genAccessToken(admin.getId(), admin.getUsername()), rotated);
+        if (reuseGraceSeconds > 0) {
+            recentRotations.put(tokenHash, issued);
+        }
+        return issued;
+    }
+
+    // 유예 시간 안의 재사용이면 같은 발급 결과 반환, 아니면 family 폐기
+    private IssuedTokens reuseWithinGrace(AdminRefreshToken current, String tokenHash, LocalDateTime revokedAt, LocalDateTime now) {
+        if (!revokedAt.plusSeconds(reuseGraceSeconds).isAfter(now)) {
+            revokeFamily(current, now);
+            throw new ServiceException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+
+        IssuedTokens issued = recentRotations.get(tokenHash);
+        if (issued == null) {
+            // 다른 노드에서 재발급했거나 로그아웃으로 폐기됨 - 탈취로 보지 않고 family 유지
+            throw new ServiceException(ErrorCode.REFRESH_TOKEN_ROTATING);
+        }
+        return issued;
+    }
+
+    // 로그아웃 - 해당 로그인에서 이어진 토큰 모두 폐기 (없는 토큰은 무시)
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        adminRefreshTokenRepository.findByTokenHash(Ut.hash.sha256(refreshToken))
+                .ifPresent(token -> adminRefreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    // 만료된 토큰 정리
+    @Transactional
+    public int purgeExpired() {
+        return adminRefreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String save(int adminId, String familyId, LocalDateTime now) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        adminRefreshTokenRepository.save(new AdminRefreshToken(
+                Ut.hash.sha256(refreshToken), familyId, adminId, now, now.plusSeconds(expireSeconds)));
+        return refreshToken;
+    }
+
+    private void revokeFamily(AdminRefreshToken token, LocalDateTime now) {
+        int revoked = adminRefreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+        log.warn("리프레시 토큰 재사용/무효 - 관리자 id {}, family {} 폐기 ({}건)", token.getAdminId(), token.getFamilyId(), revoked);
+    }
+}
@@ -1,12 +1,23 @@
 package com.backend.domain.admin.auth.service;
 
 import com.backend.domain.admin.auth.entity.Admin;
+import com.backend.standard.cache.BoundedTtlCache;
 import com.backend.standard.ut.Ut;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Map;
 
+/**
+ * 관리자 액세스 토큰 발급/검증
+ * - 서명 키와 파서는 기동 시 한 번만 생성
+ * - 검증된 토큰의 payload 는 토큰 해시를 키로 캐시 (토큰 만료 시각 또는 cacheTtlSeconds 중 빠른 쪽에 만료)
+ */
 @Service
 public class AuthTokenService {
 
@@ -14,29 +25,55 @@ public class AuthTokenService {
     private String secretPattern;
     @Value("${custom.jwt.expireSeconds}")
     private long expireSeconds;
+    @Value("${custom.jwt.verifiedCache.maxSize:10000}")
+    private int verifiedCacheSize;
+    @Value("${custom.jwt.verifiedCache.ttlSeconds:300}")
+    private long verifiedCacheTtlSeconds;
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private BoundedTtlCache<String, Map<String, Object>> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        secretKey = Ut.jwt.secretKey(secretPattern);
+        jwtParser = Ut.jwt.parser(secretKey);
+        verifiedTokens = new BoundedTtlCache<>(verifiedCacheSize, Duration.ofSeconds(verifiedCacheTtlSeconds));
+    }
 
     public String genAccessToken(Admin admin) {
+        return genAccessToken(admin.getId(), admin.getUsername());
+    }
+
+    public String genAccessToken(int id, String username) {
         return Ut.jwt.toString(
-                secretPattern,
+                secretKey,
                 expireSeconds,
                 Map.of(
-                        "id", admin.getId(),
-                        "username", admin.getUsername(),
+                        "id", id,
+                        "username", username,
                         "role", "ROLE_ADMIN"
                 )
         );
     }
 
     public Map<String, Object> getPayloadOrNull(String jwtToken) {
-        Map<String, Object> payload = Ut.jwt.payloadOrNull(jwtToken, secretPattern);
-        if (payload == null) {
+        String cacheKey = Ut.hash.sha256(jwtToken);
+        Map<String, Object> cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = Ut.jwt.claimsOrNull(jwtToken, jwtParser);
+        if (claims == null || !(claims.get("id") instanceof Number idNo)
+                || !(claims.get("username") instanceof String username)
+                || !(claims.get("role") instanceof String role)) {
             return null;
         }
-        Number idNo = (Number) payload.get("id");
-        int id = idNo.intValue();
-        String username = (String) payload.get("username");
-        String role = (String) payload.get("role");
 
-        return Map.of("id", id, "username", username, "role", role);
+        Map<String, Object> payload = Map.of("id", idNo.intValue(), "username", username, "role", role);
+        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        verifiedTokens.putUntil(cacheKey, payload, expiresAt);
+        return payload;
     }
-}
\ No newline at end of file
+}
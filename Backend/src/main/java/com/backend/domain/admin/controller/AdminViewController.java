@@ -1,7 +1,5 @@
 package com.backend.domain.admin.controller;
 
-import com.backend.domain.admin.auth.entity.Admin;
-import com.backend.domain.admin.auth.service.AdminAuthService;
 import com.backend.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -15,19 +13,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 @RequiredArgsConstructor
 public class AdminViewController {
 
-    private final AdminAuthService adminAuthService;
-
     @GetMapping("/login")
     public String login(@RequestParam(value = "error", required = false) String error, Model model) {
         if ("true".equals(error)) {
             model.addAttribute("error", "아이디 또는 비밀번호가 올바르지 않습니다.");
+        } else if ("throttled".equals(error)) {
+            model.addAttribute("error", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
         }
         return "login";
     }
 
     @GetMapping("/admin/dashboard")
     public String dashboard(Model model) {
-        Admin admin = getCurrentAdmin();
+        SecurityUser admin = getCurrentAdmin();
         if (admin != null) {
             model.addAttribute("admin", admin);
         }
@@ -36,7 +34,7 @@ public class AdminViewController {
 
     @GetMapping("/admin/products")
     public String products(Model model) {
-        Admin admin = getCurrentAdmin();
+        SecurityUser admin = getCurrentAdmin();
         if (admin != null) {
             model.addAttribute("admin", admin);
         }
@@ -45,21 +43,19 @@ public class AdminViewController {
 
     @GetMapping("/admin/orders")
     public String orders(Model model) {
-        Admin admin = getCurrentAdmin();
+        SecurityUser admin = getCurrentAdmin();
         if (admin != null) {
             model.addAttribute("admin", admin);
         }
         return "admin/orders";
     }
 
-    private Admin getCurrentAdmin() {
+    // 화면에는 아이디만 필요하므로 admin 테이블을 조회하지 않고 인증 정보(SecurityUser)를 그대로 사용
+    private SecurityUser getCurrentAdmin() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated() && 
-            !"anonymousUser".equals(authentication.getPrincipal()) &&
-            authentication.getPrincipal() instanceof SecurityUser) {
-            
-            SecurityUser securityUser = (SecurityUser) authentication.getPrincipal();
-            return adminAuthService.findByUsername(securityUser.getUsername()).orElse(null);
+        if (authentication != null && authentication.isAuthenticated() &&
+            authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser;
         }
         return null;
     }
@@ -1,34 +1,43 @@
 package com.backend.domain.admin.order.controller;
 
 import com.backend.domain.admin.order.dto.*;
+import com.backend.domain.admin.order.service.AdminOrdersExportService;
 import com.backend.domain.admin.order.service.AdminOrdersService;
-import com.backend.domain.order.entity.Orders;
-import com.backend.domain.order.service.OrdersService;
-import com.backend.global.exception.ErrorCode;
-import com.backend.global.exception.ServiceException;
+import com.backend.domain.admin.order.service.AdminOrdersStatusService;
 import com.backend.global.rsData.RsData;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 @RestController
 @RequestMapping("/api/v1/admin/orders")
 @RequiredArgsConstructor
 public class AdminOrderController {
 
-    private final OrdersService ordersService;
     private final AdminOrdersService adminOrdersService;
+    private final AdminOrdersExportService adminOrdersExportService;
+    private final AdminOrdersStatusService adminOrdersStatusService;
 
 
-    //주문 목록 조회
+    //주문 목록 조회 (page, size, sort, direction, status, from, to, emailPrefix, zipCode)
     @GetMapping
-    public RsData<AdminOrdersListResBody> getOrdersList() {
+    public RsData<AdminOrdersPageResBody> getOrdersList(@ModelAttribute AdminOrdersSearchCond cond) {
 
-        AdminOrdersListResBody adminOrdersListResBody = adminOrdersService.getAdminOrdersList();
+        AdminOrdersPageResBody adminOrdersPageResBody = adminOrdersService.getAdminOrdersList(cond);
 
         return new RsData<>(
                 "200-1",
-                "관리자 - 모든 주문 목록을 조회했습니다.",
-                adminOrdersListResBody
+                "관리자 - 주문 목록을 조회했습니다.",
+                adminOrdersPageResBody
         );
     }
 
@@ -68,6 +77,39 @@ public class AdminOrderController {
     }
 
 
+    //주문 상태 일괄 변경 (id 목록 또는 필터, 변경할 수 없는 주문은 rejected 로 반환)
+    @PostMapping("/status-transitions")
+    public RsData<AdminOrdersStatusTransitionResBody> transitionStatus(
+            @Valid @RequestBody AdminOrdersStatusTransitionReqBody reqBody
+    ) {
+        AdminOrdersStatusTransitionResBody resBody = adminOrdersStatusService.transition(reqBody);
+
+        return new RsData<>(
+                "200-1",
+                "관리자 - 주문 %d건을 %s 상태로 변경했습니다. (제외 %d건)".formatted(
+                        resBody.changedCount(), reqBody.targetStatus().getDescription(), resBody.rejectedCount()),
+                resBody
+        );
+    }
+
+
+    //주문 내보내기 (주문 상세 한 건당 한 행, 응답으로 바로 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        AdminOrdersExportService.Format exportFormat = AdminOrdersExportService.Format.of(format);
+        String filename = "orders-%s.%s".formatted(LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE), exportFormat.extension);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> adminOrdersExportService.export(exportFormat, from, to, out));
+    }
+
+
     //주문 상세 조회
     @GetMapping("/{orderId}")
     public RsData<AdminOrdersDetailResBody> getOrderDetail(
@@ -88,12 +130,7 @@ public class AdminOrderController {
     public RsData<Object> deleteOrder(
             @PathVariable int orderId
     ) {
-        Orders orders = ordersService.findById(orderId);
-        if (orders == null) {
-            throw new ServiceException(ErrorCode.ORDER_NOT_FOUND);
-        }
-
-        adminOrdersService.adminDeleteOrder(orders);
+        adminOrdersService.adminDeleteOrder(orderId);
 
         return new RsData<>(
                 "200-1",
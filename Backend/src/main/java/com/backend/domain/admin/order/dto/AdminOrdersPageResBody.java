@@ -0,0 +1,12 @@
+package com.backend.domain.admin.order.dto;
+
+import java.util.List;
+
+public record AdminOrdersPageResBody(
+        List<AdminOrdersListResBody.OrdersWithDetailsDto> orders,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages,
+        boolean hasNext
+) {}
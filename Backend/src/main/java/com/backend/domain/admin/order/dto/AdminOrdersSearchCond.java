@@ -0,0 +1,19 @@
+package com.backend.domain.admin.order.dto;
+
+import com.backend.domain.order.entity.OrderStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 관리자 주문 목록 검색 조건 (모두 선택)
+public record AdminOrdersSearchCond(
+        Integer page,        // 0부터 시작
+        Integer size,
+        String sort,         // orderDate, id, totalPrice, status, email
+        String direction,    // asc, desc
+        OrderStatus status,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,  // 주문일 시작 (포함)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,    // 주문일 끝 (포함)
+        String emailPrefix,
+        Integer zipCode
+) {}
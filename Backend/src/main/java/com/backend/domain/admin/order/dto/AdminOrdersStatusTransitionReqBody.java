@@ -0,0 +1,23 @@
+package com.backend.domain.admin.order.dto;
+
+import com.backend.domain.order.entity.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 주문 상태 일괄 변경 요청 (orderIds 또는 filter 중 하나)
+public record AdminOrdersStatusTransitionReqBody(
+        List<Integer> orderIds,
+        Filter filter,
+        @NotNull
+        OrderStatus targetStatus
+) {
+    public record Filter(
+            OrderStatus status,   // 없으면 targetStatus 로 바꿀 수 있는 모든 상태
+            LocalDate from,       // 주문일 시작 (포함)
+            LocalDate to,         // 주문일 끝 (포함)
+            String emailPrefix,
+            Integer zipCode
+    ) {}
+}
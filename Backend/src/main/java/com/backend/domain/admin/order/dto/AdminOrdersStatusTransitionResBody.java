@@ -0,0 +1,19 @@
+package com.backend.domain.admin.order.dto;
+
+import com.backend.domain.order.entity.OrderStatus;
+
+import java.util.List;
+
+public record AdminOrdersStatusTransitionResBody(
+        OrderStatus targetStatus,
+        int changedCount,
+        int rejectedCount,
+        List<Integer> changedOrderIds,
+        List<Rejected> rejected
+) {
+    public record Rejected(
+            int orderId,
+            OrderStatus currentStatus,   // 주문이 없으면 null
+            String reason
+    ) {}
+}
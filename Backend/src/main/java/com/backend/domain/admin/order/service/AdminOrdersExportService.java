@@ -0,0 +1,229 @@
+package com.backend.domain.admin.order.service;
+
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 주문 내보내기 (CSV / NDJSON)
+ * - 엔티티/DTO 를 만들지 않고 JDBC 커서(fetchSize 고정)로 읽은 행을 바로 응답 스트림에 씀
+ * - 주문 수와 관계없이 메모리 사용량이 일정 (MySQL 은 URL 에 useCursorFetch=true 필요)
+ * - 주문 상세 한 건당 한 행, 상세가 없는 주문은 상품 컬럼이 빈 값
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminOrdersExportService {
+
+    private static final String[] COLUMNS = {
+            "orderId", "orderDate", "email", "address", "zipCode", "status", "totalPrice",
+            "orderDetailId", "productId", "productName", "quantity", "price"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.orders.export.fetchSize:500}")
+    private int fetchSize;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ServiceException(ErrorCode.ORDER_INVALID_EXPORT_FORMAT);
+        }
+    }
+
+    // from ~ to (주문일 기준, 둘 다 포함) 주문을 out 으로 스트리밍
+    public void export(Format format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT o.order_id, o.order_date, o.email, o.address, o.zip_code, o.status, o.total_price,
+                       d.order_detail_id, d.product_id, p.product_name, d.order_quantity, d.price
+                FROM orders o
+                LEFT JOIN orders_detail d ON d.order_id = o.order_id
+                LEFT JOIN product p ON p.product_id = d.product_id
+                WHERE 1 = 1
+                """);
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            sql.append(" AND o.order_date >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" AND o.order_date < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        sql.append(" ORDER BY o.order_id, d.order_detail_id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        rowWriter.header();
+
+        int[] written = {0};
+        try {
+            jdbcTemplate.query(
+                    con -> {
+                        // 전방 전용 + 읽기 전용 커서로 fetchSize 만큼씩 가져옴
+                        PreparedStatement ps = con.prepareStatement(
+                                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(fetchSize);
+                        for (int i = 0; i < args.size(); i++) {
+                            ps.setObject(i + 1, args.get(i));
+                        }
+                        return ps;
+                    },
+                    rs -> {
+                        try {
+                            rowWriter.row(rs);
+                            // fetchSize 단위로 내보내 클라이언트가 바로 받기 시작하도록 함
+                            if (++written[0] % fetchSize == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트 연결 끊김 등
+        }
+
+        writer.flush();
+    }
+
+    private interface RowWriter {
+        void header() throws IOException;
+
+        void row(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header() throws IOException {
+            writer.write('\uFEFF'); // 엑셀에서 UTF-8 로 열리도록 BOM
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                if (i > 1) writer.write(',');
+                Object value = rs.getObject(i);
+                if (value instanceof Timestamp timestamp) {
+                    value = timestamp.toLocalDateTime();
+                }
+                writer.write(toCsvCell(value));
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * CSV 셀 값
+     * - 고객이 입력한 문자열(이메일/주소 등)이 =, +, -, @, 탭, CR 로 시작하면 엑셀에서 수식으로 실행되지 않도록 앞에 ' 추가
+     * - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈
+     */
+    static String toCsvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+
+        @Override
+        public void header() {
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("orderId", rs.getInt(1));
+            generator.writeStringField("orderDate", toText(rs.getTimestamp(2)));
+            generator.writeStringField("email", rs.getString(3));
+            generator.writeStringField("address", rs.getString(4));
+            generator.writeNumberField("zipCode", rs.getInt(5));
+            generator.writeStringField("status", rs.getString(6));
+            generator.writeNumberField("totalPrice", rs.getInt(7));
+            writeNullableInt("orderDetailId", rs, 8);
+            writeNullableInt("productId", rs, 9);
+            generator.writeStringField("productName", rs.getString(10));
+            writeNullableInt("quantity", rs, 11);
+            writeNullableInt("price", rs, 12);
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        private void writeNullableInt(String field, ResultSet rs, int column) throws SQLException, IOException {
+            int value = rs.getInt(column);
+            if (rs.wasNull()) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+
+        private String toText(Timestamp timestamp) {
+            return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+        }
+    }
+}
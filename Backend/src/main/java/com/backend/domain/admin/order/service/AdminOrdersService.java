@@ -2,30 +2,34 @@ package com.backend.domain.admin.order.service;
 
 import com.backend.domain.admin.order.dto.AdminOrdersDetailResBody;
 import com.backend.domain.admin.order.dto.AdminOrdersListResBody;
+import com.backend.domain.admin.order.dto.AdminOrdersPageResBody;
+import com.backend.domain.admin.order.dto.AdminOrdersSearchCond;
 import com.backend.domain.admin.order.dto.AdminOrdersUpdateReqBody;
 import com.backend.domain.admin.order.dto.AdminOrdersUpdateResBody;
 import com.backend.domain.order.dto.OrdersDetailDto;
 import com.backend.domain.order.dto.OrdersDto;
+import com.backend.domain.order.dto.OrdersRow;
+import com.backend.domain.order.dto.OrdersWithDetails;
 import com.backend.domain.order.entity.OrderStatus;
 import com.backend.domain.order.entity.Orders;
-import com.backend.domain.order.entity.OrdersDetail;
-import com.backend.domain.order.repository.OrdersDetailRepository;
 import com.backend.domain.order.repository.OrdersRepository;
+import com.backend.domain.order.service.OrdersHistoryCache;
 import com.backend.domain.order.service.OrdersService;
-import com.backend.domain.product.entity.Product;
-import com.backend.domain.product.repository.ProductRepository;
+import com.backend.global.aspect.RetryOnConflict;
 import com.backend.global.exception.ErrorCode;
 import com.backend.global.exception.ServiceException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,45 +40,99 @@ import java.util.stream.Collectors;
 public class AdminOrdersService {
 
     private static final LocalTime CUTOFF_TIME = LocalTime.of(14, 0);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "orderDate", "orderDate",
+            "id", "id",
+            "totalPrice", "totalPrice",
+            "status", "status",
+            "email", "email"
+    );
     private final OrdersRepository ordersRepository;
-    private final OrdersDetailRepository ordersDetailRepository;
-    private final ProductRepository productRepository;
     private final OrdersService ordersService;
+    private final OrdersHistoryCache ordersHistoryCache;
+
+    // 전체 주문 목록 조회 (페이지/정렬/필터)
+    public AdminOrdersPageResBody getAdminOrdersList(AdminOrdersSearchCond cond) {
+        int page = cond.page() == null ? 0 : Math.max(cond.page(), 0);
+        int size = cond.size() == null ? DEFAULT_PAGE_SIZE : Math.clamp(cond.size(), 1, MAX_PAGE_SIZE);
+
+        // 1) 조건에 맞는 주문 id 한 페이지 + 조인 없는 count
+        Page<Integer> orderIds = ordersRepository.findAdminPageIds(
+                cond.status(),
+                cond.from() == null ? null : cond.from().atStartOfDay(),
+                cond.to() == null ? null : cond.to().plusDays(1).atStartOfDay(),
+                toLikePrefix(cond.emailPrefix()),
+                cond.zipCode(),
+                PageRequest.of(page, size, toSort(cond.sort(), cond.direction()))
+        );
+
+        // 2) 해당 주문들의 상세를 한 번에 조회 후 페이지 순서대로 정렬
+        List<AdminOrdersListResBody.OrdersWithDetailsDto> orders = List.of();
+        if (orderIds.hasContent()) {
+            Map<Integer, OrdersWithDetails> byId = OrdersRow.group(ordersRepository.findRowsByIds(orderIds.getContent()))
+                    .stream()
+                    .collect(Collectors.toMap(o -> o.ordersDto().id(), o -> o));
+            orders = orderIds.getContent().stream()
+                    .map(byId::get)
+                    .map(o -> new AdminOrdersListResBody.OrdersWithDetailsDto(o.ordersDto(), o.orderDetails()))
+                    .toList();
+        }
+
+        return new AdminOrdersPageResBody(
+                orders,
+                orderIds.getNumber(),
+                orderIds.getSize(),
+                orderIds.getTotalElements(),
+                orderIds.getTotalPages(),
+                orderIds.hasNext()
+        );
+    }
 
-    // 전체 주문 목록 조회
-    public AdminOrdersListResBody getAdminOrdersList() {
-        List<Orders> ordersList = ordersRepository.findAllWithDetails();
+    // 허용된 정렬 기준만 사용 (같은 값일 때 순서가 바뀌지 않도록 id 를 보조 정렬로 추가)
+    private Sort toSort(String sort, String direction) {
+        String property = sort == null || sort.isBlank() ? "orderDate" : SORTABLE_PROPERTIES.get(sort);
+        if (property == null) {
+            throw new ServiceException(ErrorCode.ORDER_INVALID_SORT);
+        }
 
-        return getAdminOrdersListResBody(ordersList);
+        Sort.Direction dir = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort result = Sort.by(dir, property);
+        return "id".equals(property) ? result : result.and(Sort.by(dir, "id"));
+    }
+
+    // 이메일 앞부분 검색용 LIKE 패턴 (와일드카드 문자는 이스케이프)
+    static String toLikePrefix(String emailPrefix) {
+        if (emailPrefix == null || emailPrefix.isBlank()) {
+            return null;
+        }
+        return emailPrefix.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
     }
 
 
     // 주문자 이메일로 주문 목록 조회
     public AdminOrdersListResBody getAdminOrdersByEmail(String email) {
 
-        List<Orders> ordersList = ordersRepository.findByEmailOrderByOrderDateDesc(email);
+        List<OrdersRow> rows = ordersRepository.findRowsByEmail(email);
 
-        if (ordersList.isEmpty()) {
+        if (rows.isEmpty()) {
             throw new ServiceException(ErrorCode.ORDER_NOT_FOUND);
         }
 
-        return getAdminOrdersListResBody(ordersList);
+        return getAdminOrdersListResBody(rows);
 
     }
 
 
-    // 주문 목록과 상세 정보를 포함한 응답 생성
+    // 주문/상세 조인 결과를 주문 단위로 묶어 응답 생성 (엔티티 로딩 없음)
     @NotNull
-    private AdminOrdersListResBody getAdminOrdersListResBody(List<Orders> ordersList) {
-        List<AdminOrdersListResBody.OrdersWithDetailsDto> ordersWithDetails = ordersList.stream()
-                .map(orders -> {
-                    boolean canModify = ordersService.canModifyOrder(orders);
-                    OrdersDto ordersDto = new OrdersDto(orders, canModify);
-                    List<OrdersDetailDto> orderDetails = orders.getOrderDetails().stream()
-                            .map(OrdersDetailDto::new)
-                            .collect(Collectors.toList());
-                    return new AdminOrdersListResBody.OrdersWithDetailsDto(ordersDto, orderDetails);
-                })
+    private AdminOrdersListResBody getAdminOrdersListResBody(List<OrdersRow> rows) {
+        List<AdminOrdersListResBody.OrdersWithDetailsDto> ordersWithDetails = OrdersRow.group(rows).stream()
+                .map(orders -> new AdminOrdersListResBody.OrdersWithDetailsDto(orders.ordersDto(), orders.orderDetails()))
                 .collect(Collectors.toList());
 
         return new AdminOrdersListResBody(ordersWithDetails);
@@ -83,52 +141,49 @@ public class AdminOrdersService {
 
     // 주문 상세 조회
     public AdminOrdersDetailResBody getAdminOrderDetail(int orderId) {
-        Orders orders = ordersService.findById(orderId);
-        if (orders == null) {
-            throw new ServiceException(ErrorCode.ORDER_NOT_FOUND);
-        }
-
-        boolean canModify = ordersService.canModifyOrder(orders);
-
-        OrdersDto OrdersDto = new OrdersDto(orders, canModify);
+        OrdersWithDetails orders = ordersService.findDetailById(orderId);
 
-        List<OrdersDetailDto> orderDetails = orders.getOrderDetails().stream()
-                .map(OrdersDetailDto::new)
-                .collect(Collectors.toList());
-
-        return new AdminOrdersDetailResBody(OrdersDto, orderDetails);
+        return new AdminOrdersDetailResBody(orders.ordersDto(), orders.orderDetails());
     }
 
 
 
     // 주문 삭제 (취소)
-    public void adminDeleteOrder(Orders orders) {
+    @RetryOnConflict
+    public void adminDeleteOrder(int orderId) {
+        Orders orders = ordersService.findById(orderId);
+
         if (OrderStatus.CANCELLED.equals(orders.getStatus())) {
             throw new ServiceException(ErrorCode.ORDER_ALREADY_CANCELLED);
         }
-        for (var detail : orders.getOrderDetails()) {
-            var product = detail.getProduct();
-            product.setQuantity(product.getQuantity() + detail.getOrderQuantity());
-        }
+        ordersService.restoreStock(orders);
         orders.setStatus(OrderStatus.CANCELLED);
         ordersRepository.save(orders);
+        ordersHistoryCache.evictAfterCommit(orders.getEmail());
     }
 
 
-    // 주문 수정
+    // 주문 수정 - 바뀐 상세만 반영하고 재고는 상품별 순증감만 상품 id 오름차순으로 반영 (고객 수정과 같은 방식)
+    @RetryOnConflict
     public AdminOrdersUpdateResBody adminUpdateOrder(int orderId, AdminOrdersUpdateReqBody reqBody) {
-        Orders orders = ordersRepository.findById(orderId)
+        Orders orders = ordersRepository.findForUpdateById(orderId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.ORDER_NOT_FOUND));
 
         if (OrderStatus.CANCELLED.equals(orders.getStatus())) {
             throw new ServiceException(ErrorCode.ORDER_ALREADY_CANCELLED);
         }
 
-        rollbackStock(orders);
-        int newTotalPrice = updateOrderDetailsAndStock(orders, reqBody.items());
-        updateOrderInfo(orders, reqBody.address(), reqBody.zipCode(), newTotalPrice);
+        if (reqBody.items() != null) {
+            List<OrdersService.OrderItem> items = reqBody.items().stream()
+                    .map(item -> new OrdersService.OrderItem(item.productId(), item.quantity()))
+                    .toList();
+            orders.setTotalPrice(ordersService.applyItemChanges(orders, items));
+        }
+        if (reqBody.address() != null) orders.setAddress(reqBody.address());
+        if (reqBody.zipCode() != null) orders.setZipCode(reqBody.zipCode());
 
         ordersRepository.save(orders);
+        ordersHistoryCache.evictAfterCommit(orders.getEmail());
 
         return new AdminOrdersUpdateResBody(
                 new OrdersDto(orders, ordersService.canModifyOrder(orders)),
@@ -136,64 +191,6 @@ public class AdminOrdersService {
         );
     }
 
-    // 기존 재고 원복
-    private void rollbackStock(Orders orders) {
-        for (OrdersDetail detail : orders.getOrderDetails()) {
-            Product product = detail.getProduct();
-            product.setQuantity(product.getQuantity() + detail.getOrderQuantity());
-            productRepository.save(product);
-        }
-    }
-
-    // 주문 상세 내역 갱신 및 재고 차감
-    private int updateOrderDetailsAndStock(Orders orders, List<AdminOrdersUpdateReqBody.OrderItemReq> items) {
-        orders.getOrderDetails().clear();
-        int newTotalPrice = 0;
-
-        // OrderItemReq를 productId 기준으로 합산하여 중복 제거
-        Map<Integer, Integer> productQuantityMap = new HashMap<>();
-        for (AdminOrdersUpdateReqBody.OrderItemReq itemReq : items) {
-            productQuantityMap.merge(itemReq.productId(), itemReq.quantity(), Integer::sum);
-        }
-
-        for (Map.Entry<Integer, Integer> entry : productQuantityMap.entrySet()) {
-            int productId = entry.getKey();
-            int quantity = entry.getValue();
-
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
-
-            if (quantity <= 0) {
-                throw new ServiceException(ErrorCode.ORDER_INVALID_QUANTITY);
-            }
-            if (product.getQuantity() < quantity) {
-                throw new ServiceException(ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE);
-            }
-
-            OrdersDetail newDetail = new OrdersDetail();
-            newDetail.setProduct(product);
-            newDetail.setOrderQuantity(quantity);
-            newDetail.setPrice(product.getProductPrice() * quantity);
-            newDetail.setOrders(orders);
-
-            ordersDetailRepository.save(newDetail);
-            orders.getOrderDetails().add(newDetail);
-
-            product.setQuantity(product.getQuantity() - quantity);
-            productRepository.save(product);
-
-            newTotalPrice += newDetail.getPrice();
-        }
-        return newTotalPrice;
-    }
-
-    // 주문 정보 업데이트
-    private void updateOrderInfo(Orders orders, String address, Integer zipCode, int totalPrice) {
-        orders.setAddress(address);
-        orders.setZipCode(zipCode);
-        orders.setTotalPrice(totalPrice);
-    }
-
 
     // 합배송 처리 가능한 주문 목록 조회
     public AdminOrdersListResBody getMergeableOrders(String email, LocalDate date) {
@@ -206,12 +203,12 @@ public class AdminOrdersService {
         List<OrderStatus> mergeableStatuses = Arrays.asList(OrderStatus.PENDING, OrderStatus.CONFIRMED);
 
         // Repository를 호출하여 주문 목록 조회
-        List<Orders> ordersList = ordersRepository.findMergeableOrders(email, mergeableStatuses, start, end);
+        List<OrdersRow> rows = ordersRepository.findMergeableRows(email, mergeableStatuses, start, end);
 
-        if (ordersList.isEmpty()) {
+        if (rows.isEmpty()) {
             throw new ServiceException(ErrorCode.ORDER_NOT_FOUND);
         }
 
-        return getAdminOrdersListResBody(ordersList);
+        return getAdminOrdersListResBody(rows);
     }
 }
\ No newline at end of file
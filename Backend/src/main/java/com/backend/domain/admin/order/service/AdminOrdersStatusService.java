@@ -0,0 +1,163 @@
+package com.backend.domain.admin.order.service;
+
+import com.backend.domain.admin.order.dto.AdminOrdersStatusTransitionReqBody;
+import com.backend.domain.admin.order.dto.AdminOrdersStatusTransitionResBody;
+import com.backend.domain.admin.order.dto.AdminOrdersStatusTransitionResBody.Rejected;
+import com.backend.domain.order.dto.OrdersStatusDto;
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.repository.OrdersRepository;
+import com.backend.domain.order.service.OrdersHistoryCache;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 주문 상태 일괄 변경 (CONFIRMED → PREPARING → SHIPPED → DELIVERED)
+ * - 주문 엔티티를 읽지 않고 id/상태만 조회해 OrderStatus 전이 규칙으로 검증한 뒤, 현재 상태별 UPDATE 한 번으로 변경
+ * - 청크마다 별도 트랜잭션으로 커밋하므로 수천 건도 락을 오래 잡지 않음
+ * - 취소는 재고 복원이 필요하므로 여기서 처리하지 않고 단건 취소 API 를 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminOrdersStatusService {
+
+    private final OrdersRepository ordersRepository;
+    private final OrdersHistoryCache ordersHistoryCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${custom.orders.statusTransition.chunkSize:500}")
+    private int chunkSize;
+    @Value("${custom.orders.statusTransition.maxOrderIds:10000}")
+    private int maxOrderIds;
+
+    private record ChunkResult(List<Integer> changed, List<Rejected> rejected) {}
+
+    public AdminOrdersStatusTransitionResBody transition(AdminOrdersStatusTransitionReqBody reqBody) {
+        OrderStatus target = reqBody.targetStatus();
+        if (target == null || OrderStatus.sourcesOf(target).isEmpty() || target == OrderStatus.CANCELLED) {
+            throw new ServiceException(ErrorCode.ORDER_INVALID_STATUS_TRANSITION);
+        }
+
+        List<Integer> changed = new ArrayList<>();
+        List<Rejected> rejected = new ArrayList<>();
+
+        if (reqBody.orderIds() != null && !reqBody.orderIds().isEmpty()) {
+            List<Integer> orderIds = reqBody.orderIds().stream().distinct().sorted().toList();
+            if (orderIds.size() > maxOrderIds) {
+                throw new ServiceException(ErrorCode.ORDER_STATUS_TRANSITION_TOO_MANY);
+            }
+
+            for (int from = 0; from < orderIds.size(); from += chunkSize) {
+                collect(applyChunk(orderIds.subList(from, Math.min(from + chunkSize, orderIds.size())), target), changed, rejected);
+            }
+        } else if (reqBody.filter() != null) {
+            transitionByFilter(reqBody.filter(), target, changed, rejected);
+        } else {
+            throw new ServiceException(ErrorCode.ORDER_STATUS_TRANSITION_EMPTY);
+        }
+
+        return new AdminOrdersStatusTransitionResBody(target, changed.size(), rejected.size(), changed, rejected);
+    }
+
+    // 필터에 맞고 target 으로 바꿀 수 있는 상태의 주문만 id 순으로 청크 처리
+    private void transitionByFilter(AdminOrdersStatusTransitionReqBody.Filter filter, OrderStatus target,
+                                    List<Integer> changed, List<Rejected> rejected) {
+        List<OrderStatus> sources = OrderStatus.sourcesOf(target);
+        if (filter.status() != null) {
+            if (!filter.status().canTransitionTo(target)) {
+                throw new ServiceException(ErrorCode.ORDER_INVALID_STATUS_TRANSITION);
+            }
+            sources = List.of(filter.status());
+        }
+
+        int lastId = 0;
+        while (true) {
+            List<Integer> ids = ordersRepository.findAdminIdsByStatusesAfter(
+                    sources,
+                    filter.from() == null ? null : filter.from().atStartOfDay(),
+                    filter.to() == null ? null : filter.to().plusDays(1).atStartOfDay(),
+                    AdminOrdersService.toLikePrefix(filter.emailPrefix()),
+                    filter.zipCode(),
+                    lastId,
+                    Limit.of(chunkSize)
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            collect(applyChunk(ids, target), changed, rejected);
+            lastId = ids.getLast();
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+    }
+
+    // 한 청크 검증 + 변경 (커밋된 뒤에만 결과에 반영)
+    private ChunkResult applyChunk(List<Integer> ids, OrderStatus target) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Map<Integer, OrderStatus> current = findStatuses(ids);
+
+            List<Rejected> rejected = new ArrayList<>();
+            Map<OrderStatus, List<Integer>> bySource = new EnumMap<>(OrderStatus.class);
+            for (Integer id : ids) {
+                OrderStatus orderStatus = current.get(id);
+                if (orderStatus == null) {
+                    rejected.add(new Rejected(id, null, ErrorCode.ORDER_NOT_FOUND.getMessage()));
+                } else if (!orderStatus.canTransitionTo(target)) {
+                    rejected.add(new Rejected(id, orderStatus, "%s 상태에서 %s 상태로 변경할 수 없습니다."
+                            .formatted(orderStatus.getDescription(), target.getDescription())));
+                } else {
+                    bySource.computeIfAbsent(orderStatus, s -> new ArrayList<>()).add(id);
+                }
+            }
+
+            List<Integer> changed = new ArrayList<>();
+            for (Map.Entry<OrderStatus, List<Integer>> entry : bySource.entrySet()) {
+                List<Integer> sourceIds = entry.getValue();
+                int updated = ordersRepository.updateStatus(sourceIds, entry.getKey(), target);
+                if (updated == sourceIds.size()) {
+                    changed.addAll(sourceIds);
+                    continue;
+                }
+
+                // 조회와 UPDATE 사이에 다른 요청(고객 취소 등)으로 상태가 바뀐 주문은 제외
+                Map<Integer, OrderStatus> after = findStatuses(sourceIds);
+                for (Integer id : sourceIds) {
+                    if (after.get(id) == target) {
+                        changed.add(id);
+                    } else {
+                        rejected.add(new Rejected(id, after.get(id), "처리 중 다른 요청으로 주문 상태가 변경되었습니다."));
+                    }
+                }
+            }
+
+            if (!changed.isEmpty()) {
+                ordersHistoryCache.evictAfterCommit(ordersRepository.findEmailsByIds(changed));
+            }
+            return new ChunkResult(changed, rejected);
+        });
+    }
+
+    private Map<Integer, OrderStatus> findStatuses(List<Integer> ids) {
+        return ordersRepository.findStatusesByIds(ids).stream()
+                .collect(Collectors.toMap(OrdersStatusDto::orderId, OrdersStatusDto::status));
+    }
+
+    private void collect(ChunkResult result, List<Integer> changed, List<Rejected> rejected) {
+        changed.addAll(result.changed());
+        rejected.addAll(result.rejected());
+    }
+}
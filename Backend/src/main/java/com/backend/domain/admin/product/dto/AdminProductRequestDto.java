@@ -10,6 +10,8 @@ public class AdminProductRequestDto {
     private String productName;
     private int productPrice;
     private int quantity;
+    // 수정 화면을 열 때의 재고 - 있으면 (quantity - baseQuantity) 만큼만 조정해 그 사이 주문 차감을 유지
+    private Integer baseQuantity;
     private String description;
     private String imageUrl;
 }
\ No newline at end of file
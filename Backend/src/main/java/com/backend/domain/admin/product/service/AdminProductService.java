@@ -3,10 +3,15 @@ package com.backend.domain.admin.product.service;
 import com.backend.domain.admin.product.dto.*;
 import com.backend.domain.admin.product.repository.AdminProductRepository;
 import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.service.ProductCatalogue;
+import com.backend.domain.product.service.ProductStockService;
+import com.backend.global.aspect.RetryOnConflict;
 import com.backend.global.exception.ErrorCode;
 import com.backend.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +21,8 @@ import java.util.stream.Collectors;
 public class AdminProductService {
 
     private final AdminProductRepository productRepository;
+    private final ProductStockService productStockService;
+    private final ProductCatalogue productCatalogue;
 
     // 상품 등록
     public AdminProductResponseDto createProduct(AdminProductRequestDto request) {
@@ -28,13 +35,18 @@ public class AdminProductService {
                     .imageUrl(request.getImageUrl())
                     .build();
 
-            return AdminProductResponseDto.fromEntity(productRepository.save(product));
+            Product saved = productRepository.save(product);
+            productCatalogue.rebuildAfterCommit();
+
+            return AdminProductResponseDto.fromEntity(saved);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.PRODUCT_CREATE_FAILED);
         }
     }
 
-    // 상품 수정
+    // 상품 수정 - 상품 정보와 재고 조정을 한 트랜잭션으로 (다른 관리자 수정과 겹치면 버전 충돌 → 다시 읽어서 재시도)
+    @RetryOnConflict
+    @Transactional
     public AdminProductResponseDto updateProduct(Integer productId, AdminProductRequestDto request) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -42,12 +54,16 @@ public class AdminProductService {
         try {
             product.setProductName(request.getProductName());
             product.setProductPrice(request.getProductPrice());
-            product.setQuantity(request.getQuantity());
             product.setDescription(request.getDescription());
             product.setImageUrl(request.getImageUrl());
 
-            return AdminProductResponseDto.fromEntity(productRepository.save(product));
-        } catch (ServiceException e) {
+            Product saved = productRepository.save(product);
+            // 재고는 덮어쓰지 않고 변경량만 반영 (응답용으로만 엔티티에 설정, quantity 는 updatable = false)
+            saved.setQuantity(productStockService.adjustByAdmin(productId, request.getBaseQuantity(), request.getQuantity()));
+            productCatalogue.rebuildAfterCommit();
+
+            return AdminProductResponseDto.fromEntity(saved);
+        } catch (ServiceException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.PRODUCT_UPDATE_FAILED);
@@ -55,14 +71,19 @@ public class AdminProductService {
     }
 
     // 상품 삭제 (소프트 삭제: quantity를 0으로 설정)
+    @RetryOnConflict
+    @Transactional
     public void deleteProduct(Integer productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
+        if (!productRepository.existsById(productId)) {
+            throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
 
         try {
             // 실제 삭제 대신 quantity를 0으로 설정 (소프트 삭제)
-            product.setQuantity(0);
-            productRepository.save(product);
+            productStockService.adjustByAdmin(productId, null, 0);
+            productCatalogue.rebuildAfterCommit();
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.PRODUCT_DELETE_FAILED);
         }
@@ -0,0 +1,49 @@
+package com.backend.domain.admin.shipment.controller;
+
+import com.backend.domain.admin.shipment.dto.ShipmentGroupListResBody;
+import com.backend.domain.admin.shipment.service.ShipmentConsolidationService;
+import com.backend.global.rsData.RsData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/admin/shipments")
+@RequiredArgsConstructor
+public class AdminShipmentController {
+
+    private final ShipmentConsolidationService shipmentConsolidationService;
+
+
+    //출고일 합배송 묶음 조회 (date 없으면 오늘)
+    @GetMapping
+    public RsData<ShipmentGroupListResBody> getShipmentGroups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        LocalDate shipmentDate = date == null ? LocalDate.now() : date;
+        ShipmentGroupListResBody resBody = shipmentConsolidationService.getShipmentGroups(shipmentDate);
+
+        return new RsData<>(
+                "200-1",
+                "관리자 - %s 출고 합배송 묶음 %d개를 조회했습니다.".formatted(shipmentDate, resBody.groupCount()),
+                resBody
+        );
+    }
+
+
+    //출고일 합배송 묶음 다시 생성 (마감 후 주문 수정/취소 반영, 같은 출고일 재생성과 동시에 실행되지 않음)
+    @PostMapping("/rebuild")
+    public RsData<ShipmentGroupListResBody> rebuildShipmentGroups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        ShipmentGroupListResBody resBody = shipmentConsolidationService.rebuildExclusively(date, () -> {});
+
+        return new RsData<>(
+                "200-1",
+                "관리자 - %s 출고 합배송 묶음 %d개를 생성했습니다.".formatted(date, resBody.groupCount()),
+                resBody
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.backend.domain.admin.shipment.dto;
+
+import com.backend.domain.admin.shipment.entity.ShipmentGroup;
+import com.backend.domain.admin.shipment.entity.ShipmentGroupLine;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ShipmentGroupDto(
+        Integer id,            // 저장 전(마감 전 미리보기)이면 null
+        LocalDate shipmentDate,
+        String email,
+        String address,
+        Integer zipCode,
+        List<Integer> orderIds,
+        int orderCount,
+        int totalQuantity,
+        int totalPrice,
+        List<Line> lines
+) {
+    public record Line(
+            Integer productId,
+            String productName,
+            int quantity,
+            int price
+    ) {
+        public Line(ShipmentGroupLine line) {
+            this(line.getProductId(), line.getProductName(), line.getQuantity(), line.getPrice());
+        }
+    }
+
+    public ShipmentGroupDto(ShipmentGroup group) {
+        this(
+                group.getId(),
+                group.getShipmentDate(),
+                group.getEmail(),
+                group.getAddress(),
+                group.getZipCode(),
+                group.getOrderIdList(),
+                group.getOrderCount(),
+                group.getTotalQuantity(),
+                group.getTotalPrice(),
+                group.getLines().stream().map(Line::new).toList()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.backend.domain.admin.shipment.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ShipmentGroupListResBody(
+        LocalDate shipmentDate,
+        LocalDateTime windowStart,   // 포함
+        LocalDateTime windowEnd,     // 미포함
+        boolean materialized,        // false: 저장된 결과가 없어 조회 시 계산만 한 결과
+        int groupCount,
+        int mergedGroupCount,        // 주문이 2건 이상 묶인 묶음 수
+        List<ShipmentGroupDto> groups
+) {}
@@ -0,0 +1,89 @@
+package com.backend.domain.admin.shipment.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 출고일별 합배송 묶음 (하루 한 번 생성해 두고 조회하는 집계 테이블)
+ * - 같은 이메일 + 같은 배송지(우편번호, 정규화한 주소)의 PENDING/CONFIRMED 주문을 하나로 묶음
+ * - 출고일 D 의 대상은 D-1 14:00 ~ D 14:00 에 들어온 주문
+ */
+@Entity
+@Table(name = "shipment_group", indexes = {
+        @Index(name = "idx_shipment_group_date_email", columnList = "shipment_date, email")
+})
+@Getter
+@NoArgsConstructor
+public class ShipmentGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shipment_group_seq_generator")
+    @SequenceGenerator(name = "shipment_group_seq_generator", sequenceName = "shipment_group_seq", allocationSize = 50)
+    @Column(name = "shipment_group_id")
+    private Integer id;
+
+    @Column(name = "shipment_date", nullable = false)
+    private LocalDate shipmentDate;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(name = "zip_code", nullable = false)
+    private Integer zipCode;
+
+    // 묶인 주문 id (쉼표 구분, 오름차순)
+    @Column(name = "order_ids", nullable = false, columnDefinition = "TEXT")
+    private String orderIds;
+
+    @Column(name = "order_count", nullable = false)
+    private int orderCount;
+
+    @Column(name = "total_quantity", nullable = false)
+    private int totalQuantity;
+
+    @Column(name = "total_price", nullable = false)
+    private int totalPrice;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @OneToMany(mappedBy = "shipmentGroup", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("productId")
+    private List<ShipmentGroupLine> lines = new ArrayList<>();
+
+    public ShipmentGroup(LocalDate shipmentDate, String email, String address, Integer zipCode,
+                         List<Integer> orderIds, int totalPrice) {
+        this.shipmentDate = shipmentDate;
+        this.email = email;
+        this.address = address;
+        this.zipCode = zipCode;
+        this.orderIds = orderIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.orderCount = orderIds.size();
+        this.totalPrice = totalPrice;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void addLine(ShipmentGroupLine line) {
+        lines.add(line);
+        line.setShipmentGroup(this);
+        totalQuantity += line.getQuantity();
+    }
+
+    public List<Integer> getOrderIdList() {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(orderIds.split(",")).map(Integer::valueOf).toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.domain.admin.shipment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 합배송 묶음의 상품별 합산 수량
+@Entity
+@Table(name = "shipment_group_line")
+@Getter
+@NoArgsConstructor
+public class ShipmentGroupLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shipment_group_line_seq_generator")
+    @SequenceGenerator(name = "shipment_group_line_seq_generator", sequenceName = "shipment_group_line_seq", allocationSize = 50)
+    @Column(name = "shipment_group_line_id")
+    private Integer id;
+
+    @Setter(AccessLevel.PACKAGE)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "shipment_group_id", nullable = false)
+    private ShipmentGroup shipmentGroup;
+
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    @Column(name = "product_name")
+    private String productName;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private int price;
+
+    public ShipmentGroupLine(Integer productId, String productName, int quantity, int price) {
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.price = price;
+    }
+}
@@ -0,0 +1,27 @@
+package com.backend.domain.admin.shipment.repository;
+
+import com.backend.domain.admin.shipment.entity.ShipmentGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ShipmentGroupRepository extends JpaRepository<ShipmentGroup, Integer> {
+
+    @Query("SELECT DISTINCT g FROM ShipmentGroup g LEFT JOIN FETCH g.lines WHERE g.shipmentDate = :shipmentDate ORDER BY g.email, g.id")
+    List<ShipmentGroup> findWithLinesByShipmentDate(@Param("shipmentDate") LocalDate shipmentDate);
+
+    // 재생성 전 기존 묶음 삭제 (상품 행 → 묶음 순서)
+    @Modifying
+    @Query("DELETE FROM ShipmentGroupLine l WHERE l.shipmentGroup.id IN (SELECT g.id FROM ShipmentGroup g WHERE g.shipmentDate = :shipmentDate)")
+    int deleteLinesByShipmentDate(@Param("shipmentDate") LocalDate shipmentDate);
+
+    @Modifying
+    @Query("DELETE FROM ShipmentGroup g WHERE g.shipmentDate = :shipmentDate")
+    int deleteByShipmentDate(@Param("shipmentDate") LocalDate shipmentDate);
+}
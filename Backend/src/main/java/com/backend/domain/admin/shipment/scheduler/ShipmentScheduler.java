@@ -0,0 +1,45 @@
+package com.backend.domain.admin.shipment.scheduler;
+
+import com.backend.domain.admin.shipment.dto.ShipmentGroupListResBody;
+import com.backend.domain.admin.shipment.service.ShipmentConsolidationService;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.scheduling.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShipmentScheduler {
+
+    private final ShipmentConsolidationService shipmentConsolidationService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    /**
+     * 매일 14:05에 당일 출고분(전날 14:00 ~ 당일 14:00) 합배송 묶음 생성
+     * 여러 인스턴스 중 lease 를 가져간 한 노드만 실행
+     * 같은 출고일을 관리자가 재생성 중이면 그 결과를 사용하고 건너뜀
+     */
+    @Scheduled(cron = "0 5 14 * * *")
+    public void consolidateShipments() {
+        schedulerLeaseService.runExclusively(ShipmentConsolidationService.LEASE_JOB_NAME, lease -> {
+            LocalDate shipmentDate = LocalDate.now();
+            try {
+                ShipmentGroupListResBody result = shipmentConsolidationService.rebuildExclusively(
+                        shipmentDate, () -> schedulerLeaseService.assertHeld(lease));
+                return "groups=%d, merged=%d".formatted(result.groupCount(), result.mergedGroupCount());
+            } catch (ServiceException e) {
+                if (e.getErrorCode() != ErrorCode.SHIPMENT_REBUILD_IN_PROGRESS) {
+                    throw e;
+                }
+                log.warn("{} 출고 합배송 묶음을 다른 요청에서 생성 중이므로 건너뜀", shipmentDate);
+                return "SKIPPED: rebuild in progress";
+            }
+        });
+    }
+}
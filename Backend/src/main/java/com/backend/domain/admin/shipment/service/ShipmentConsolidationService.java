@@ -0,0 +1,226 @@
+package com.backend.domain.admin.shipment.service;
+
+import com.backend.domain.admin.shipment.dto.ShipmentGroupDto;
+import com.backend.domain.admin.shipment.dto.ShipmentGroupListResBody;
+import com.backend.domain.admin.shipment.entity.ShipmentGroup;
+import com.backend.domain.admin.shipment.entity.ShipmentGroupLine;
+import com.backend.domain.admin.shipment.repository.ShipmentGroupRepository;
+import com.backend.domain.order.dto.OrdersRow;
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.repository.OrdersRepository;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.scheduling.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 합배송 묶음 생성
+ * - 출고 기간(전날 14:00 ~ 당일 14:00)의 PENDING/CONFIRMED 주문을 한 번의 조회로 읽고,
+ *   이메일 해시로 나눈 파티션별로 병렬 집계 (같은 이메일은 항상 같은 파티션이므로 파티션 간 병합 불필요)
+ * - 이메일 + 우편번호 + 정규화한 주소가 같은 주문을 한 묶음으로, 상품별 수량/금액을 합산
+ * - 저장(shipment_group)은 스케줄러와 관리자 재생성에서만, 출고일별 lease 로 같은 출고일은 한 번에 하나씩 실행
+ * - 조회는 저장된 결과가 있으면 반환하고, 없으면 계산한 결과만 반환 (저장하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShipmentConsolidationService {
+
+    public static final String LEASE_JOB_NAME = "shipment.consolidate";
+
+    private static final LocalTime CUTOFF_TIME = LocalTime.of(14, 0);
+    private static final List<OrderStatus> MERGEABLE_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern ADDRESS_PUNCTUATION = Pattern.compile("[,.·()\\-]");
+
+    private final OrdersRepository ordersRepository;
+    private final ShipmentGroupRepository shipmentGroupRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Value("${custom.shipment.partitions:4}")
+    private int partitions;
+
+    // 출고일 묶음 조회 - 저장된 결과가 있으면 반환, 없으면 계산만 함
+    public ShipmentGroupListResBody getShipmentGroups(LocalDate shipmentDate) {
+        List<ShipmentGroup> stored = new TransactionTemplate(transactionManager).execute(status ->
+                shipmentGroupRepository.findWithLinesByShipmentDate(shipmentDate));
+        if (!stored.isEmpty()) {
+            return toResBody(shipmentDate, stored, true);
+        }
+        return toResBody(shipmentDate, consolidate(shipmentDate), false);
+    }
+
+    /**
+     * 출고일별 lease 를 가져온 경우에만 묶음 재생성 (스케줄러/관리자 공용)
+     * - 같은 출고일 재생성만 직렬화하고, 끝나면 최소 보유 시간 없이 바로 반납 (연속 재생성, 다른 출고일, 14:05 스케줄에 영향 없음)
+     * @param fence 저장 트랜잭션 안에서 출고일 lease 확인 전에 호출 (스케줄 lease 확인)
+     */
+    public ShipmentGroupListResBody rebuildExclusively(LocalDate shipmentDate, Runnable fence) {
+        SchedulerLeaseService.Lease lease = schedulerLeaseService.tryAcquire(dateLeaseName(shipmentDate))
+                .orElseThrow(() -> new ServiceException(ErrorCode.SHIPMENT_REBUILD_IN_PROGRESS));
+
+        String result = null;
+        try {
+            ShipmentGroupListResBody resBody = rebuild(shipmentDate, () -> {
+                fence.run();
+                schedulerLeaseService.assertHeld(lease);
+            });
+            result = "groups=%d, merged=%d".formatted(resBody.groupCount(), resBody.mergedGroupCount());
+            return resBody;
+        } catch (RuntimeException e) {
+            result = "FAILED: " + e.getMessage();
+            throw e;
+        } finally {
+            schedulerLeaseService.release(lease, result, false);
+        }
+    }
+
+    private static String dateLeaseName(LocalDate shipmentDate) {
+        return LEASE_JOB_NAME + ":" + shipmentDate;
+    }
+
+    /**
+     * 출고일 묶음 재생성 (기존 결과를 지우고 한 트랜잭션으로 교체)
+     * @param fence 저장 트랜잭션 안에서 호출 (스케줄 lease 확인)
+     */
+    public ShipmentGroupListResBody rebuild(LocalDate shipmentDate, Runnable fence) {
+        long startedAt = System.nanoTime();
+        List<ShipmentGroup> groups = consolidate(shipmentDate);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            fence.run();
+            shipmentGroupRepository.deleteLinesByShipmentDate(shipmentDate);
+            shipmentGroupRepository.deleteByShipmentDate(shipmentDate);
+            shipmentGroupRepository.saveAll(groups);
+        });
+
+        log.info("합배송 묶음 생성 - 출고일 {}, 묶음 {}개, {}ms",
+                shipmentDate, groups.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return toResBody(shipmentDate, groups, true);
+    }
+
+    private List<ShipmentGroup> consolidate(LocalDate shipmentDate) {
+        List<OrdersRow> rows = ordersRepository.findRowsByStatusesBetween(
+                MERGEABLE_STATUSES, windowStart(shipmentDate), windowEnd(shipmentDate));
+
+        // 이메일 해시 파티션 (행 순서 = 주문 id 순 유지)
+        List<List<OrdersRow>> partitioned = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            partitioned.add(new ArrayList<>());
+        }
+        for (OrdersRow row : rows) {
+            partitioned.get(Math.floorMod(row.email().hashCode(), partitions)).add(row);
+        }
+
+        return partitioned.parallelStream()
+                .flatMap(partition -> consolidatePartition(shipmentDate, partition).stream())
+                .sorted(Comparator.comparing(ShipmentGroup::getEmail)
+                        .thenComparing(group -> group.getOrderIdList().getFirst()))
+                .toList();
+    }
+
+    private List<ShipmentGroup> consolidatePartition(LocalDate shipmentDate, List<OrdersRow> rows) {
+        Map<String, GroupBuilder> builders = new LinkedHashMap<>();
+        for (OrdersRow row : rows) {
+            String key = row.email() + "\n" + row.zipCode() + "\n" + normalizeAddress(row.address());
+            builders.computeIfAbsent(key, k -> new GroupBuilder(row)).add(row);
+        }
+
+        List<ShipmentGroup> groups = new ArrayList<>(builders.size());
+        for (GroupBuilder builder : builders.values()) {
+            groups.add(builder.build(shipmentDate));
+        }
+        return groups;
+    }
+
+    // 주소 비교용 정규화 (공백/구두점 차이, 대소문자 무시)
+    static String normalizeAddress(String address) {
+        if (address == null) {
+            return "";
+        }
+        String stripped = ADDRESS_PUNCTUATION.matcher(address).replaceAll(" ");
+        return WHITESPACE.matcher(stripped).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private ShipmentGroupListResBody toResBody(LocalDate shipmentDate, List<ShipmentGroup> groups, boolean materialized) {
+        List<ShipmentGroupDto> dtos = groups.stream().map(ShipmentGroupDto::new).toList();
+        int merged = (int) dtos.stream().filter(group -> group.orderCount() > 1).count();
+
+        return new ShipmentGroupListResBody(
+                shipmentDate,
+                windowStart(shipmentDate),
+                windowEnd(shipmentDate),
+                materialized,
+                dtos.size(),
+                merged,
+                dtos
+        );
+    }
+
+    private static LocalDateTime windowStart(LocalDate shipmentDate) {
+        return shipmentDate.minusDays(1).atTime(CUTOFF_TIME);
+    }
+
+    private static LocalDateTime windowEnd(LocalDate shipmentDate) {
+        return shipmentDate.atTime(CUTOFF_TIME);
+    }
+
+    // 한 묶음 집계 - 주문 금액은 주문당 한 번, 상품 수량/금액은 상품별 합산
+    private static class GroupBuilder {
+        private final OrdersRow first;
+        private final TreeSet<Integer> orderIds = new TreeSet<>();
+        private final TreeMap<Integer, int[]> quantities = new TreeMap<>();   // productId → {quantity, price}
+        private final Map<Integer, String> productNames = new LinkedHashMap<>();
+        private int totalPrice;
+
+        GroupBuilder(OrdersRow first) {
+            this.first = first;
+        }
+
+        void add(OrdersRow row) {
+            if (orderIds.add(row.orderId())) {
+                totalPrice += row.totalPrice() == null ? 0 : row.totalPrice();
+            }
+            if (row.detailId() == null) {
+                return;
+            }
+            int[] sum = quantities.computeIfAbsent(row.productId(), id -> new int[2]);
+            sum[0] += row.quantity();
+            sum[1] += row.price();
+            productNames.putIfAbsent(row.productId(), row.productName());
+        }
+
+        ShipmentGroup build(LocalDate shipmentDate) {
+            ShipmentGroup group = new ShipmentGroup(
+                    shipmentDate,
+                    first.email(),
+                    first.address(),
+                    first.zipCode(),
+                    List.copyOf(orderIds),
+                    totalPrice
+            );
+            quantities.forEach((productId, sum) ->
+                    group.addLine(new ShipmentGroupLine(productId, productNames.get(productId), sum[0], sum[1])));
+            return group;
+        }
+    }
+}
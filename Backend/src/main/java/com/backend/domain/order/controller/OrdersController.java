@@ -2,6 +2,8 @@ package com.backend.domain.order.controller;
 
 import com.backend.domain.order.dto.OrdersDetailDto;
 import com.backend.domain.order.dto.OrdersDto;
+import com.backend.domain.order.dto.OrdersTicketDto;
+import com.backend.domain.order.dto.OrdersWithDetails;
 import com.backend.domain.order.dto.request.OrdersCreateRequest;
 import com.backend.domain.order.dto.request.OrdersUpdateRequest;
 import com.backend.domain.order.dto.response.OrdersCreateResponse;
@@ -9,12 +11,17 @@ import com.backend.domain.order.dto.response.OrdersDetailResponse;
 import com.backend.domain.order.dto.response.OrdersListResponse;
 import com.backend.domain.order.dto.response.OrdersUpdateResponse;
 import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.service.OrdersIdempotencyService;
+import com.backend.domain.order.service.OrdersIntakeService;
 import com.backend.domain.order.service.OrdersService;
+import com.backend.domain.order.service.OrdersTicketService;
 import com.backend.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,38 +31,89 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrdersController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrdersService ordersService;
+    private final OrdersIdempotencyService ordersIdempotencyService;
+    private final OrdersIntakeService ordersIntakeService;
+    private final OrdersTicketService ordersTicketService;
 
 
     @PostMapping
     @Operation(summary = "주문 생성")
-    public RsData<OrdersCreateResponse> createOrder(@Valid @RequestBody OrdersCreateRequest reqBody) {
+    public RsData<OrdersCreateResponse> createOrder(
+            @Valid @RequestBody OrdersCreateRequest reqBody,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletResponse response) {
+
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return placeOrder(reqBody, ordersIntakeService.isEnabled());
+        }
+
+        // 같은 키로 재시도된 요청은 주문을 다시 만들지 않고 처음 응답을 그대로 반환
+        // (주문과 응답 저장이 한 트랜잭션이어야 하므로 그룹 커밋을 거치지 않음)
+        OrdersIdempotencyService.Result result =
+                ordersIdempotencyService.execute(idempotencyKey, reqBody, () -> placeOrder(reqBody, false));
+        if (result.replayed()) {
+            response.setHeader("Idempotent-Replayed", "true");
+        }
+        return result.rsData();
+    }
+
+    // 비동기 주문 접수 - 바로 티켓을 반환하고 주문은 작업 스레드에서 생성
+    @PostMapping("/async")
+    @Operation(summary = "주문 비동기 접수")
+    public RsData<OrdersTicketDto> createOrderAsync(@Valid @RequestBody OrdersCreateRequest reqBody) {
+        List<OrdersService.OrderItem> orderItems = reqBody.getItems().stream()
+                .map(item -> new OrdersService.OrderItem(item.getProductId(), item.getQuantity()))
+                .toList();
+
+        OrdersTicketDto ticket = ordersTicketService.submit(new OrdersIntakeService.OrderCommand(
+                reqBody.getEmail(),
+                reqBody.getAddress(),
+                reqBody.getZipCode(),
+                orderItems
+        ));
+
+        return new RsData<>(
+                "202-1",
+                "주문이 접수되었습니다.",
+                ticket
+        );
+    }
+
+    // 비동기 주문 처리 상태 조회
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(summary = "주문 접수 상태 조회")
+    public RsData<OrdersTicketDto> getOrderTicket(@PathVariable String ticketId) {
+        return new RsData<>(
+                "200-1",
+                "주문 접수 상태를 조회했습니다.",
+                ordersTicketService.getTicket(ticketId)
+        );
+    }
+
+    private RsData<OrdersCreateResponse> placeOrder(OrdersCreateRequest reqBody, boolean groupCommit) {
         try {
-            // 디버깅용 로그 추가
-            System.out.println("🔍 주문 생성 요청 데이터:");
-            System.out.println("Email: " + reqBody.getEmail());
-            System.out.println("Address: " + reqBody.getAddress());
-            System.out.println("ZipCode: " + reqBody.getZipCode());
-            System.out.println("Items: " + reqBody.getItems());
             // OrderItem 변환
             List<OrdersService.OrderItem> orderItems = reqBody.getItems().stream()
                     .map(item -> new OrdersService.OrderItem(item.getProductId(), item.getQuantity()))
                     .collect(Collectors.toList());
 
-            System.out.println("🔍 서비스 호출 전:");
-            System.out.println("Email: " + reqBody.getEmail());
-            System.out.println("Address: " + reqBody.getAddress());
-            System.out.println("ZipCode: " + reqBody.getZipCode());
-            
-            Orders orders = ordersService.createOrders(
-                    reqBody.getEmail(),
-                    reqBody.getAddress(),
-                    reqBody.getZipCode(),
-                    orderItems
-            );
-            
-            System.out.println("🔍 서비스 호출 후:");
-            System.out.println("orders.getAddress(): " + orders.getAddress());
+            Orders orders = groupCommit
+                    ? ordersIntakeService.submitAndWait(new OrdersIntakeService.OrderCommand(
+                            reqBody.getEmail(),
+                            reqBody.getAddress(),
+                            reqBody.getZipCode(),
+                            orderItems
+                    ))
+                    : ordersService.createOrders(
+                            reqBody.getEmail(),
+                            reqBody.getAddress(),
+                            reqBody.getZipCode(),
+                            orderItems
+                    );
+
             boolean canModify = ordersService.canModifyOrder(orders);
             OrdersDto ordersDto = new OrdersDto(orders, canModify);
 
@@ -76,49 +134,51 @@ public class OrdersController {
 
     // 주문 목록 조회
     @GetMapping
-    public RsData<OrdersListResponse> getOrdersList(@RequestParam String email) {
-        List<Orders> ordersList = ordersService.findByEmail(email);
-
-        List<OrdersListResponse.OrderSummary> summaries = ordersList.stream()
-                .map(orders -> {
-                    boolean canModify = ordersService.canModifyOrder(orders);
-                    OrdersDto ordersDto = new OrdersDto(orders, canModify);
-
-                    List<OrdersDetailDto> orderDetails = orders.getOrderDetails().stream()
-                            .map(OrdersDetailDto::new)
-                            .collect(Collectors.toList());
+    public RsData<OrdersListResponse> getOrdersList(
+            @RequestParam String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        // If-None-Match 가 현재 ETag 와 같으면 목록 조회 없이 304
+        OrdersService.OrdersPage page = ordersService.findByEmail(
+                email, cursor, Math.clamp(size, 1, MAX_PAGE_SIZE), webRequest::checkNotModified);
+        if (page == null) {
+            return null;
+        }
 
-                    return OrdersListResponse.OrderSummary.builder()
-                            .ordersDto(ordersDto)
-                            .orderDetails(orderDetails)
-                            .build();
-                }).toList();
+        List<OrdersListResponse.OrderSummary> summaries = page.orders().stream()
+                .map(orders -> OrdersListResponse.OrderSummary.builder()
+                        .ordersDto(orders.ordersDto())
+                        .orderDetails(orders.orderDetails())
+                        .build()
+                ).toList();
 
         return new RsData<>(
                 "200-1",
                 "주문 목록을 조회했습니다.",
-                OrdersListResponse.builder().orders(summaries).build()
+                OrdersListResponse.builder()
+                        .orders(summaries)
+                        .nextCursor(page.nextCursor())
+                        .hasNext(page.hasNext())
+                        .build()
         );
     }
 
     // 특정 주문 조회
     @GetMapping("/{orderId}")
-    public RsData<OrdersDetailResponse> getOrdersDetail(@PathVariable int orderId) {
-        Orders orders = ordersService.findById(orderId);
-
-        boolean canModify = ordersService.canModifyOrder(orders);
-        OrdersDto ordersDto = new OrdersDto(orders, canModify);
-
-        List<OrdersDetailDto> orderDetails = orders.getOrderDetails().stream()
-                .map(OrdersDetailDto::new)
-                .toList();
+    public RsData<OrdersDetailResponse> getOrdersDetail(@PathVariable int orderId, WebRequest webRequest) {
+        // If-None-Match 가 현재 ETag 와 같으면 주문 조회 없이 304
+        OrdersWithDetails orders = ordersService.findDetailById(orderId, webRequest::checkNotModified);
+        if (orders == null) {
+            return null;
+        }
 
         return new RsData<>(
                 "200-1",
-                "%d번 주문을 조회했습니다.".formatted(orders.getId()),
+                "%d번 주문을 조회했습니다.".formatted(orderId),
                 OrdersDetailResponse.builder()
-                        .ordersDto(ordersDto)
-                        .orderDetails(orderDetails)
+                        .ordersDto(orders.ordersDto())
+                        .orderDetails(orders.orderDetails())
                         .build()        );
     }
 
@@ -160,9 +220,7 @@ public class OrdersController {
     // 주문 취소
     @DeleteMapping("/{orderId}")
     public RsData<Void> deleteOrders(@PathVariable int orderId) {
-        Orders orders = ordersService.findById(orderId);
-
-        ordersService.deleteOrders(orders);
+        ordersService.deleteOrders(orderId);
 
         return new RsData<>(
                 "200-1",
@@ -0,0 +1,68 @@
+package com.backend.domain.order.dto;
+
+import com.backend.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 + 주문 상세 + 상품명 조인 결과 한 행 (JPQL 생성자 프로젝션)
+ * - 엔티티를 로딩하지 않고 목록/상세 응답을 만들기 위한 용도
+ * - 상세가 없는 주문은 detail 컬럼이 null
+ */
+public record OrdersRow(
+        Integer orderId,
+        String email,
+        String address,
+        Integer zipCode,
+        Integer totalPrice,
+        LocalDateTime orderDate,
+        OrderStatus status,
+        Integer detailId,
+        Integer productId,
+        String productName,
+        Integer quantity,
+        Integer price
+) {
+    // 조회 순서를 유지하면서 주문 단위로 묶음 (행을 한 번만 순회)
+    public static List<OrdersWithDetails> group(List<OrdersRow> rows) {
+        Map<Integer, OrdersDto> orders = new LinkedHashMap<>();
+        Map<Integer, List<OrdersDetailDto>> details = new LinkedHashMap<>();
+
+        for (OrdersRow row : rows) {
+            List<OrdersDetailDto> orderDetails = details.get(row.orderId());
+            if (orderDetails == null) {
+                orders.put(row.orderId(), row.toOrdersDto());
+                orderDetails = new ArrayList<>();
+                details.put(row.orderId(), orderDetails);
+            }
+            if (row.detailId() != null) {
+                orderDetails.add(row.toOrdersDetailDto());
+            }
+        }
+
+        List<OrdersWithDetails> result = new ArrayList<>(orders.size());
+        orders.forEach((orderId, ordersDto) -> result.add(new OrdersWithDetails(ordersDto, details.get(orderId))));
+        return result;
+    }
+
+    private OrdersDto toOrdersDto() {
+        return new OrdersDto(
+                orderId,
+                email,
+                address != null ? address : "주소정보없음",
+                zipCode,
+                totalPrice,
+                orderDate,
+                status,
+                status.isCustomerModifiable()
+        );
+    }
+
+    private OrdersDetailDto toOrdersDetailDto() {
+        return new OrdersDetailDto(detailId, productId, productName, quantity, price);
+    }
+}
@@ -0,0 +1,9 @@
+package com.backend.domain.order.dto;
+
+import com.backend.domain.order.entity.OrderStatus;
+
+// 주문 id + 현재 상태 (상태 일괄 변경 검증용 프로젝션)
+public record OrdersStatusDto(
+        Integer orderId,
+        OrderStatus status
+) {}
@@ -0,0 +1,17 @@
+package com.backend.domain.order.dto;
+
+import java.time.LocalDateTime;
+
+public record OrdersTicketDto(
+        String ticketId,
+        Status status,
+        Integer orderId,   // ACCEPTED 일 때만
+        String message,    // REJECTED 일 때 사유
+        LocalDateTime createdAt
+) {
+    public enum Status {
+        QUEUED,    // 접수 대기열에 있음
+        ACCEPTED,  // 주문 생성 완료
+        REJECTED   // 재고 부족 등으로 주문 실패
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.domain.order.dto;
+
+// ETag 계산용 프로젝션 - 주문 버전 + 응답에 표시되는 상품명 (상세 한 건당 한 행, 상세가 없으면 detailId null)
+public record OrdersVersionDto(
+        Integer orderId,
+        Long version,
+        Integer detailId,
+        String productName
+) {
+}
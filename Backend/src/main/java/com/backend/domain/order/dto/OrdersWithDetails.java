@@ -0,0 +1,8 @@
+package com.backend.domain.order.dto;
+
+import java.util.List;
+
+public record OrdersWithDetails(
+        OrdersDto ordersDto,
+        List<OrdersDetailDto> orderDetails
+) {}
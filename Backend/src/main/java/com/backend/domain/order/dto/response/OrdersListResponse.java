@@ -15,6 +15,8 @@ import java.util.List;
 @Builder
 public class OrdersListResponse{
     private List<OrderSummary> orders;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
 
     @Getter
     @NoArgsConstructor
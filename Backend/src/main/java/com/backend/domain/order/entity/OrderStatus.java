@@ -1,5 +1,8 @@
 package com.backend.domain.order.entity;
 
+import java.util.Arrays;
+import java.util.List;
+
 public enum OrderStatus {
     PENDING("주문 대기"),        // 14시 이전, 고객이 수정/취소 가능
     CONFIRMED("주문 확정"),      // 14시 이후 확정, 관리자만 처리 가능
@@ -31,4 +34,22 @@ public enum OrderStatus {
     public boolean isAdminProcessable() {
         return this == CONFIRMED || this == PREPARING || this == SHIPPED;
     }
-}
\ No newline at end of file
+
+    // 상태 전이 가능 여부 (PENDING → CONFIRMED → PREPARING → SHIPPED → DELIVERED, 배송 전까지 취소 가능)
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case PENDING -> target == CONFIRMED || target == CANCELLED;
+            case CONFIRMED -> target == PREPARING || target == CANCELLED;
+            case PREPARING -> target == SHIPPED || target == CANCELLED;
+            case SHIPPED -> target == DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
+
+    // target 으로 바꿀 수 있는 현재 상태 목록
+    public static List<OrderStatus> sourcesOf(OrderStatus target) {
+        return Arrays.stream(values())
+                .filter(status -> status.canTransitionTo(target))
+                .toList();
+    }
+}
@@ -10,14 +10,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ORDERS")
+// 이메일별 주문 목록 커서 페이지네이션 (email, order_date DESC, order_id DESC)
+@Table(name = "ORDERS", indexes = {
+        @Index(name = "idx_orders_email_order_date", columnList = "email, order_date, order_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Orders {
 
+    // IDENTITY 전략은 Hibernate insert 배치를 막으므로 pooled 시퀀스(MySQL에서는 테이블 에뮬레이션) 사용
+    // 기존 DB 의 시퀀스는 기동 시 SequenceInitData 가 최대 ID 위로 올림 (allocationSize 를 바꾸면 함께 수정)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     @Column(name = "order_id")
     private Integer id;
 
@@ -33,12 +39,19 @@ public class Orders {
     @Column(name = "total_price", nullable = false)
     private Integer totalPrice;
 
+    @Column(name = "order_date")
     private LocalDateTime orderDate;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    // 낙관적 락 버전 (ETag 에도 사용) - 벌크 UPDATE 에서도 함께 올려야 동시 수정이 감지됨
+    // 주문 상세만 바뀌는 수정은 OrdersRepository.findForUpdateById (OPTIMISTIC_FORCE_INCREMENT) 로 조회
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // OrderDetails 엔티티와의 관계 (1:N)
     @OneToMany(mappedBy = "orders", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrdersDetail> orderDetails = new ArrayList<>();
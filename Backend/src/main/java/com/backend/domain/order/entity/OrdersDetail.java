@@ -10,8 +10,10 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 public class OrdersDetail {
+    // 기존 DB 의 시퀀스는 기동 시 SequenceInitData 가 최대 ID 위로 올림 (allocationSize 를 바꾸면 함께 수정)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_detail_seq_generator")
+    @SequenceGenerator(name = "orders_detail_seq_generator", sequenceName = "orders_detail_seq", allocationSize = 50)
     @Column(name = "order_detail_id")
     private Integer id;
 
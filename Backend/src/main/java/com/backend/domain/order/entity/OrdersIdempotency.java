@@ -0,0 +1,63 @@
+package com.backend.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리된 주문 생성 응답
+ * - 주문과 같은 트랜잭션에서 저장되므로 키가 PK 충돌하면 중복 주문도 함께 롤백
+ */
+@Entity
+@Table(name = "orders_idempotency", indexes = @Index(name = "idx_orders_idempotency_expires", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+public class OrdersIdempotency implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 키를 직접 지정하므로 save 시 불필요한 SELECT(merge) 대신 바로 INSERT
+    @Transient
+    private boolean persisted;
+
+    public OrdersIdempotency(String idempotencyKey, String requestHash, String responseBody, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.responseBody = responseBody;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
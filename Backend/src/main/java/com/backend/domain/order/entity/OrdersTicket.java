@@ -0,0 +1,72 @@
+package com.backend.domain.order.entity;
+
+import com.backend.domain.order.dto.OrdersTicketDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 주문 접수 티켓
+ * - 노드 메모리가 아닌 DB 에 두어 어느 노드로 조회해도 같은 상태를 반환 (로드밸런서 sticky 불필요)
+ * - 처리 결과(ACCEPTED/REJECTED)는 QUEUED 인 경우에만 한 번 기록
+ */
+@Entity
+@Table(name = "orders_ticket", indexes = @Index(name = "idx_orders_ticket_expires", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+public class OrdersTicket implements Persistable<String> {
+
+    @Id
+    @Column(name = "ticket_id", length = 36)
+    private String ticketId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrdersTicketDto.Status status;
+
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 키를 직접 지정하므로 save 시 불필요한 SELECT(merge) 대신 바로 INSERT
+    @Transient
+    private boolean persisted;
+
+    public OrdersTicket(String ticketId, LocalDateTime expiresAt) {
+        this.ticketId = ticketId;
+        this.status = OrdersTicketDto.Status.QUEUED;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public OrdersTicketDto toDto() {
+        return new OrdersTicketDto(ticketId, status, orderId, message, createdAt);
+    }
+
+    @Override
+    public String getId() {
+        return ticketId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.order.repository;
+
+import com.backend.domain.order.entity.OrdersIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrdersIdempotencyRepository extends JpaRepository<OrdersIdempotency, String> {
+
+    @Modifying
+    @Query("DELETE FROM OrdersIdempotency i WHERE i.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,32 +1,177 @@
 package com.backend.domain.order.repository;
 
+import com.backend.domain.order.dto.OrdersRow;
+import com.backend.domain.order.dto.OrdersStatusDto;
+import com.backend.domain.order.dto.OrdersVersionDto;
 import com.backend.domain.order.entity.OrderStatus;
 import com.backend.domain.order.entity.Orders;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrdersRepository extends JpaRepository<Orders, Integer> {
-    @Query("SELECT o FROM Orders o WHERE o.email = :email ORDER BY o.orderDate DESC")
-    List<Orders> findByEmailOrderByOrderDateDesc(@Param("email") String email);
 
-    @Query("SELECT o FROM Orders o JOIN FETCH o.orderDetails")
-    List<Orders> findAllWithDetails();
+    // 수정용 조회 - 주문 행이 바뀌지 않고 상세만 바뀌어도 커밋 시 버전을 올리고 동시 수정을 감지
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT o FROM Orders o WHERE o.id = :orderId")
+    Optional<Orders> findForUpdateById(@Param("orderId") int orderId);
 
-    List<Orders> findByStatus(OrderStatus orderStatus);
+    // 주문 + 상세 + 상품명 프로젝션 (엔티티 로딩 없이 한 번의 조인으로 조회)
+    String ROWS_SELECT = """
+            SELECT new com.backend.domain.order.dto.OrdersRow(
+                o.id, o.email, o.address, o.zipCode, o.totalPrice, o.orderDate, o.status,
+                d.id, p.productId, p.productName, d.orderQuantity, d.price)
+            FROM Orders o
+            LEFT JOIN o.orderDetails d
+            LEFT JOIN d.product p
+            """;
 
-    List<Orders> findByEmail(String email);
+    // 이메일별 주문 목록 첫 페이지 (id 만 조회 - (email, order_date, order_id) 인덱스만으로 처리)
+    @Query("SELECT o.id FROM Orders o WHERE o.email = :email ORDER BY o.orderDate DESC, o.id DESC")
+    List<Integer> findFirstPageIdsByEmail(@Param("email") String email, Limit limit);
+
+    // 이메일별 주문 목록 다음 페이지 (커서 = 이전 페이지 마지막 주문의 orderDate, id)
+    @Query("""
+            SELECT o.id FROM Orders o
+            WHERE o.email = :email
+              AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id))
+            ORDER BY o.orderDate DESC, o.id DESC
+            """)
+    List<Integer> findPageIdsByEmailAfter(
+            @Param("email") String email,
+            @Param("orderDate") LocalDateTime orderDate,
+            @Param("id") int id,
+            Limit limit
+    );
+
+    // ETag 계산용 - 주문 버전(상세 수량/금액 변경 포함) + 응답에 표시되는 상품명 (재고 변경과 무관)
+    @Query("""
+            SELECT new com.backend.domain.order.dto.OrdersVersionDto(o.id, o.version, d.id, p.productName)
+            FROM Orders o
+            LEFT JOIN o.orderDetails d
+            LEFT JOIN d.product p
+            WHERE o.id IN :orderIds
+            ORDER BY o.id, d.id
+            """)
+    List<OrdersVersionDto> findVersionsByIds(@Param("orderIds") Collection<Integer> orderIds);
+
+    @Query(ROWS_SELECT + "WHERE o.id IN :orderIds ORDER BY o.orderDate DESC, o.id DESC, d.id")
+    List<OrdersRow> findRowsByIds(@Param("orderIds") Collection<Integer> orderIds);
 
-    @Query("SELECT o FROM Orders o WHERE o.email = :email AND o.status IN (:statuses) AND o.orderDate BETWEEN :startTime AND :endTime")
-    List<Orders> findMergeableOrders(
+    @Query(ROWS_SELECT + "WHERE o.id = :orderId ORDER BY d.id")
+    List<OrdersRow> findRowsById(@Param("orderId") int orderId);
+
+    // 관리자 주문 목록 필터 (null 인 조건은 무시)
+    String ADMIN_FILTER = """
+            WHERE (:status IS NULL OR o.status = :status)
+              AND (:fromDate IS NULL OR o.orderDate >= :fromDate)
+              AND (:toDate IS NULL OR o.orderDate < :toDate)
+              AND (:emailPrefix IS NULL OR o.email LIKE :emailPrefix ESCAPE '!')
+              AND (:zipCode IS NULL OR o.zipCode = :zipCode)
+            """;
+
+    // 관리자 주문 목록 페이지 - 주문 id 만 조회, 개수는 조인 없이 orders 만 count
+    @Query(
+            value = "SELECT o.id FROM Orders o " + ADMIN_FILTER,
+            countQuery = "SELECT COUNT(o) FROM Orders o " + ADMIN_FILTER
+    )
+    Page<Integer> findAdminPageIds(
+            @Param("status") OrderStatus status,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate,
+            @Param("emailPrefix") String emailPrefix,
+            @Param("zipCode") Integer zipCode,
+            Pageable pageable
+    );
+
+    @Query(ROWS_SELECT + "WHERE o.email = :email ORDER BY o.orderDate DESC, o.id DESC, d.id")
+    List<OrdersRow> findRowsByEmail(@Param("email") String email);
+
+    @Query(ROWS_SELECT + """
+            WHERE o.email = :email AND o.status IN (:statuses) AND o.orderDate BETWEEN :startTime AND :endTime
+            ORDER BY o.orderDate DESC, o.id DESC, d.id
+            """)
+    List<OrdersRow> findMergeableRows(
             @Param("email") String email,
             @Param("statuses") List<OrderStatus> statuses,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
-}
\ No newline at end of file
+
+    // 출고 기간 [startTime, endTime) 의 주문 전체 (합배송 묶음 생성용, 주문 id 순)
+    @Query(ROWS_SELECT + """
+            WHERE o.status IN (:statuses) AND o.orderDate >= :startTime AND o.orderDate < :endTime
+            ORDER BY o.id, d.id
+            """)
+    List<OrdersRow> findRowsByStatusesBetween(
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+
+    List<Orders> findByStatus(OrderStatus orderStatus);
+
+    // 상태 일괄 변경 대상 id (id 순 keyset - 청크 단위로 끊어서 처리)
+    @Query("""
+            SELECT o.id FROM Orders o
+            WHERE o.status = :status AND o.orderDate < :before AND o.id > :afterId
+            ORDER BY o.id
+            """)
+    List<Integer> findIdsByStatusBefore(
+            @Param("status") OrderStatus status,
+            @Param("before") LocalDateTime before,
+            @Param("afterId") int afterId,
+            Limit limit
+    );
+
+    // 관리자 상태 일괄 변경 대상 id (필터 + 변경 가능한 현재 상태, id 순 keyset)
+    @Query("""
+            SELECT o.id FROM Orders o
+            WHERE o.status IN :statuses
+              AND (:fromDate IS NULL OR o.orderDate >= :fromDate)
+              AND (:toDate IS NULL OR o.orderDate < :toDate)
+              AND (:emailPrefix IS NULL OR o.email LIKE :emailPrefix ESCAPE '!')
+              AND (:zipCode IS NULL OR o.zipCode = :zipCode)
+              AND o.id > :afterId
+            ORDER BY o.id
+            """)
+    List<Integer> findAdminIdsByStatusesAfter(
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate,
+            @Param("emailPrefix") String emailPrefix,
+            @Param("zipCode") Integer zipCode,
+            @Param("afterId") int afterId,
+            Limit limit
+    );
+
+    @Query("SELECT new com.backend.domain.order.dto.OrdersStatusDto(o.id, o.status) FROM Orders o WHERE o.id IN :orderIds")
+    List<OrdersStatusDto> findStatusesByIds(@Param("orderIds") Collection<Integer> orderIds);
+
+    @Query("SELECT DISTINCT o.email FROM Orders o WHERE o.id IN :orderIds")
+    List<String> findEmailsByIds(@Param("orderIds") Collection<Integer> orderIds);
+
+    // 상태 일괄 변경 - 현재 상태가 from 인 주문만 변경 (그 사이 취소 등으로 바뀐 주문은 제외)
+    @Modifying
+    @Query("UPDATE Orders o SET o.status = :to, o.version = o.version + 1 WHERE o.id IN :orderIds AND o.status = :from")
+    int updateStatus(
+            @Param("orderIds") Collection<Integer> orderIds,
+            @Param("from") OrderStatus from,
+            @Param("to") OrderStatus to
+    );
+
+    List<Orders> findByEmail(String email);
+}
@@ -0,0 +1,33 @@
+package com.backend.domain.order.repository;
+
+import com.backend.domain.order.dto.OrdersTicketDto;
+import com.backend.domain.order.entity.OrdersTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrdersTicketRepository extends JpaRepository<OrdersTicket, String> {
+
+    // 처리 결과 기록 - 아직 from(QUEUED) 상태인 경우에만 (영향받은 행 수 0 = 이미 기록됨 또는 만료 삭제)
+    @Modifying
+    @Query("""
+            UPDATE OrdersTicket t SET t.status = :status, t.orderId = :orderId, t.message = :message
+            WHERE t.ticketId = :ticketId AND t.status = :from
+            """)
+    int complete(
+            @Param("ticketId") String ticketId,
+            @Param("from") OrdersTicketDto.Status from,
+            @Param("status") OrdersTicketDto.Status status,
+            @Param("orderId") Integer orderId,
+            @Param("message") String message
+    );
+
+    @Modifying
+    @Query("DELETE FROM OrdersTicket t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,42 +1,80 @@
 package com.backend.domain.order.scheduler;
 
-import com.backend.domain.order.service.OrdersService;
+import com.backend.domain.order.service.OrdersConfirmService;
+import com.backend.domain.order.service.OrdersIdempotencyService;
+import com.backend.domain.order.service.OrdersTicketService;
+import com.backend.global.scheduling.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class OrdersScheduler {
 
-    private final OrdersService ordersService;
+    private final OrdersConfirmService ordersConfirmService;
+    private final OrdersIdempotencyService ordersIdempotencyService;
+    private final OrdersTicketService ordersTicketService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
     /**
      * 매일 14:00에 PENDING 상태의 주문들을 CONFIRMED로 변경
      * cron: 초(0) 분(0) 시(14) 일(*) 월(*) 요일(*)
+     * 청크마다 따로 커밋하므로 전체를 한 트랜잭션으로 묶지 않음
+     * 여러 인스턴스 중 lease 를 가져간 한 노드만 실행하고, 청크마다 lease 를 확인/연장
      */
     @Scheduled(cron = "0 0 14 * * *")
-    @Transactional
     public void confirmPendingOrders() {
-        log.info("14시 주문 확정 스케줄러 시작");
+        schedulerLeaseService.runExclusively("orders.confirmPendingOrders", lease -> {
+            log.info("14시 주문 확정 스케줄러 시작 (fencing token {})", lease.token());
+
+            OrdersConfirmService.ConfirmResult result = ordersConfirmService.confirmPendingOrders(
+                    LocalDateTime.now(), () -> schedulerLeaseService.assertHeld(lease));
 
-        ordersService.confirmPendingOrders();
+            log.info("14시 주문 확정 스케줄러 완료 - 확정 {}건, 제외 {}건, 청크 {}개, 소요 {}ms",
+                    result.confirmed(), result.skipped(), result.chunks(), result.elapsed().toMillis());
+            return "confirmed=%d, skipped=%d, chunks=%d, elapsedMs=%d".formatted(
+                    result.confirmed(), result.skipped(), result.chunks(), result.elapsed().toMillis());
+        });
+    }
+
+    // 만료된 Idempotency-Key 응답 정리 (매시 정각)
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpiredIdempotencyKeys() {
+        schedulerLeaseService.runExclusively("orders.purgeExpiredIdempotencyKeys", lease -> {
+            int deleted = ordersIdempotencyService.purgeExpired();
+            if (deleted > 0) {
+                log.info("만료된 Idempotency-Key {}건 삭제", deleted);
+            }
+            return "deleted=" + deleted;
+        });
+    }
 
-        log.info("14시 주문 확정 스케줄러 완료");
+    // 만료된 비동기 주문 접수 티켓 정리 (매시 정각)
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpiredTickets() {
+        schedulerLeaseService.runExclusively("orders.purgeExpiredTickets", lease -> {
+            int deleted = ordersTicketService.purgeExpired();
+            if (deleted > 0) {
+                log.info("만료된 주문 접수 티켓 {}건 삭제", deleted);
+            }
+            return "deleted=" + deleted;
+        });
     }
 
     // 테스트용 코드
     //@Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
     public void confirmPendingOrdersForTest() {
         log.info("[테스트] 주문 확정 스케줄러 실행");
 
-        // OrdersService의 confirmPendingOrders 메서드 호출
-        ordersService.confirmPendingOrders();
+        // OrdersConfirmService의 confirmPendingOrders 메서드 호출
+        OrdersConfirmService.ConfirmResult result = ordersConfirmService.confirmPendingOrders(LocalDateTime.now());
 
-        log.info("[테스트] 주문 확정 스케줄러 완료");
+        log.info("[테스트] 주문 확정 스케줄러 완료 - 확정 {}건", result.confirmed());
 
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.repository.OrdersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 14시 주문 확정 배치
+ * - 주문 엔티티를 읽지 않고 PENDING 주문 id 를 청크 단위로 골라 UPDATE 한 번으로 확정
+ * - 청크마다 별도 트랜잭션으로 커밋하므로 락을 오래 잡지 않고, 중간에 실패해도 확정된 청크는 유지
+ * - 대상은 항상 status = PENDING 이므로 중단 후 다시 실행하면 남은 주문부터 이어서 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersConfirmService {
+
+    private final OrdersRepository ordersRepository;
+    private final OrdersHistoryCache ordersHistoryCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${custom.orders.confirm.chunkSize:500}")
+    private int chunkSize;
+
+    public record ConfirmResult(int confirmed, int skipped, int chunks, Duration elapsed) {}
+
+    // cutoff 이전에 들어온 PENDING 주문을 CONFIRMED 로 변경
+    public ConfirmResult confirmPendingOrders(LocalDateTime cutoff) {
+        return confirmPendingOrders(cutoff, () -> {});
+    }
+
+    // fence: 청크 트랜잭션 안에서 UPDATE 전에 호출 (스케줄 lease 확인 - 예외를 던지면 해당 청크는 롤백되고 중단)
+    public ConfirmResult confirmPendingOrders(LocalDateTime cutoff, Runnable fence) {
+        long startedAt = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int confirmed = 0;
+        int skipped = 0;
+        int chunks = 0;
+        int lastId = 0;
+
+        while (true) {
+            List<Integer> ids = ordersRepository.findIdsByStatusBefore(
+                    OrderStatus.PENDING, cutoff, lastId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer updated = transactionTemplate.execute(status -> {
+                fence.run();
+                List<String> emails = ordersRepository.findEmailsByIds(ids);
+                int count = ordersRepository.updateStatus(ids, OrderStatus.PENDING, OrderStatus.CONFIRMED);
+                ordersHistoryCache.evictAfterCommit(emails);
+                return count;
+            });
+
+            // 조회 후 UPDATE 전에 고객이 취소/수정한 주문은 건너뜀
+            confirmed += updated;
+            skipped += ids.size() - updated;
+            chunks++;
+            lastId = ids.getLast();
+
+            log.info("주문 확정 진행 - {}번째 청크 {}건 확정 (누적 {}건, 마지막 주문 id {})",
+                    chunks, updated, confirmed, lastId);
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        return new ConfirmResult(confirmed, skipped, chunks, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+}
@@ -0,0 +1,99 @@
+package com.backend.domain.order.service;
+
+import com.backend.standard.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이메일별 주문 목록 첫 페이지 캐시
+ * - 결제 직후 스토어프론트가 반복 조회하는 GET /api/v1/orders?email= 의 주문/상세 조인 조회를 줄임
+ * - 사용하기 전에 인덱스만 읽는 id/버전 조회로 ETag 를 다시 계산해 비교하므로,
+ *   다른 노드에서 바뀐 주문(무효화가 전달되지 않음)도 오래된 값을 반환하지 않음
+ * - 주문 생성/수정/취소/확정 시 해당 이메일을 커밋 후 무효화하는 것은 메모리를 빨리 비우기 위함
+ * - 적중/미스/제거 건수는 orders.history.cache.* 메트릭으로 노출
+ */
+@Component
+public class OrdersHistoryCache implements MeterBinder {
+
+    @Value("${custom.orders.historyCache.enabled:true}")
+    private boolean enabled;
+    @Value("${custom.orders.historyCache.maxSize:10000}")
+    private int maxSize;
+    @Value("${custom.orders.historyCache.ttlSeconds:30}")
+    private long ttlSeconds;
+
+    private BoundedTtlCache<String, CachedPage> cache;
+
+    private record CachedPage(int size, OrdersService.OrdersPage page) {}
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedTtlCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public OrdersService.OrdersPage get(String email, int size) {
+        if (!enabled) {
+            return null;
+        }
+        CachedPage cached = cache.get(email);
+        return cached != null && cached.size() == size ? cached.page() : null;
+    }
+
+    public void put(String email, int size, OrdersService.OrdersPage page) {
+        if (enabled) {
+            cache.put(email, new CachedPage(size, page));
+        }
+    }
+
+    public void evictAfterCommit(String email) {
+        evictAfterCommit(List.of(email));
+    }
+
+    public void evictAfterCommit(Collection<String> emails) {
+        if (!enabled || emails.isEmpty()) {
+            return;
+        }
+
+        Set<String> targets = Set.copyOf(emails);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            targets.forEach(cache::invalidate);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 롤백이어도 무효화 (조회 중 채워진 값이 롤백된 변경을 보지 않았다는 보장이 없으므로)
+                targets.forEach(cache::invalidate);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("orders.history.cache.hits", this, c -> c.cache.hitCount())
+                .description("주문 목록 캐시 적중 건수")
+                .register(registry);
+        FunctionCounter.builder("orders.history.cache.misses", this, c -> c.cache.missCount())
+                .description("주문 목록 캐시 미스 건수")
+                .register(registry);
+        FunctionCounter.builder("orders.history.cache.evictions", this, c -> c.cache.evictionCount())
+                .description("주문 목록 캐시 크기/TTL 제거 건수")
+                .register(registry);
+        Gauge.builder("orders.history.cache.size", this, c -> c.cache.size())
+                .description("주문 목록 캐시 항목 수")
+                .register(registry);
+    }
+}
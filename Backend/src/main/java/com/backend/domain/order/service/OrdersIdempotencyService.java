@@ -0,0 +1,217 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.order.dto.request.OrdersCreateRequest;
+import com.backend.domain.order.dto.response.OrdersCreateResponse;
+import com.backend.domain.order.entity.OrdersIdempotency;
+import com.backend.domain.order.repository.OrdersIdempotencyRepository;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.rsData.RsData;
+import com.backend.standard.cache.BoundedTtlCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * POST /api/v1/orders 의 Idempotency-Key 처리
+ * - 완료된 응답은 크기/TTL 제한 메모리 캐시 + orders_idempotency 테이블에 보관하여 재시도 시 그대로 반환
+ * - 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 기다림
+ * - 실패 응답은 저장하지 않으므로 같은 키로 다시 시도 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class OrdersIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final TypeReference<RsData<OrdersCreateResponse>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    private final OrdersIdempotencyRepository ordersIdempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private BoundedTtlCache<String, StoredResponse> cache;
+
+    @Value("${custom.orders.idempotency.ttlSeconds:86400}")
+    private long ttlSeconds;
+    @Value("${custom.orders.idempotency.cacheSize:10000}")
+    private int cacheSize;
+    @Value("${custom.orders.idempotency.waitSeconds:30}")
+    private long waitSeconds;
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedTtlCache<>(cacheSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public record Result(RsData<OrdersCreateResponse> rsData, boolean replayed) {}
+
+    private record StoredResponse(String requestHash, RsData<OrdersCreateResponse> rsData) {}
+
+    public Result execute(String key, OrdersCreateRequest request, Supplier<RsData<OrdersCreateResponse>> action) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ServiceException(ErrorCode.ORDER_IDEMPOTENCY_KEY_INVALID);
+        }
+        String requestHash = hash(request);
+
+        // 1) 메모리 캐시
+        StoredResponse cached = cache.get(key);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        // 2) 같은 키로 처리 중인 요청이 있으면 그 결과를 기다림
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return replay(await(running), requestHash);
+        }
+
+        try {
+            // 3) 다른 노드/이전 실행에서 저장된 응답
+            StoredResponse stored = loadStored(key);
+            if (stored != null) {
+                mine.complete(stored);
+                return replay(stored, requestHash);
+            }
+
+            // 4) 실제 주문 생성
+            Result result = run(key, requestHash, action);
+            mine.complete(new StoredResponse(requestHash, result.rsData()));
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 만료된 응답 정리
+    @Transactional
+    public int purgeExpired() {
+        return ordersIdempotencyRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private Result run(String key, String requestHash, Supplier<RsData<OrdersCreateResponse>> action) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(ttlSeconds);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try {
+            // 주문 생성과 응답 저장을 한 트랜잭션으로 묶어 둘 중 하나만 남는 일이 없도록 함
+            RsData<OrdersCreateResponse> rsData = transactionTemplate.execute(status -> {
+                RsData<OrdersCreateResponse> response = action.get();
+                if (isSuccess(response)) {
+                    ordersIdempotencyRepository.saveAndFlush(
+                            new OrdersIdempotency(key, requestHash, toJson(response), expiresAt)
+                    );
+                } else {
+                    status.setRollbackOnly();
+                }
+                return response;
+            });
+
+            if (isSuccess(rsData)) {
+                cache.putUntil(key, new StoredResponse(requestHash, rsData), toEpochMillis(expiresAt));
+            }
+            return new Result(rsData, false);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 키로 먼저 커밋 → 이번 주문은 롤백되었으므로 저장된 응답을 반환
+            StoredResponse stored = loadStored(key);
+            if (stored == null) {
+                throw e;
+            }
+            return replay(stored, requestHash);
+        }
+    }
+
+    private StoredResponse loadStored(String key) {
+        return ordersIdempotencyRepository.findById(key)
+                .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(record -> {
+                    StoredResponse stored = new StoredResponse(record.getRequestHash(), fromJson(record.getResponseBody()));
+                    cache.putUntil(key, stored, toEpochMillis(record.getExpiresAt()));
+                    return stored;
+                })
+                .orElse(null);
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceException(ErrorCode.ORDER_IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(ErrorCode.ORDER_IDEMPOTENCY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // 먼저 들어온 요청과 같은 예외로 응답
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Result replay(StoredResponse stored, String requestHash) {
+        // 같은 키를 다른 주문 내용으로 재사용한 경우
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new ServiceException(ErrorCode.ORDER_IDEMPOTENCY_KEY_REUSED);
+        }
+        return new Result(stored.rsData(), true);
+    }
+
+    private boolean isSuccess(RsData<?> rsData) {
+        return rsData != null && rsData.getStatusCode() / 100 == 2;
+    }
+
+    private String hash(OrdersCreateRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(RsData<OrdersCreateResponse> rsData) {
+        try {
+            return objectMapper.writeValueAsString(rsData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RsData<OrdersCreateResponse> fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, RESPONSE_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
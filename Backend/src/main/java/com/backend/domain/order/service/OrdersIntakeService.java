@@ -0,0 +1,270 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.repository.ProductRepository;
+import com.backend.domain.product.service.StockLedger;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 접수 그룹 커밋
+ * - 들어온 주문 생성 요청을 제한된 큐에 넣고, 커밋 스레드가 몇 ms 또는 N건 단위로 모아 한 트랜잭션으로 처리
+ * - 그룹 전체 커밋이 실패하면 각 주문을 개별 트랜잭션으로 다시 처리하여 한 주문의 실패가 그룹 전체로 번지지 않게 함
+ * - 대기 시간이 지나면 아직 커밋 스레드가 가져가지 않은 주문은 취소(503)하고, 이미 가져간 주문은 결과를 한 번 더 기다림
+ *   (503 을 받은 주문이 나중에 커밋되어 재시도 시 중복 주문이 생기지 않도록)
+ * - 두 번째 대기도 넘기면 커밋 여부를 알 수 없으므로 ORDER_STATUS_UNKNOWN(504) 으로 응답 (재시도 전에 주문 내역 확인)
+ * - 커밋 스레드는 어떤 오류가 나도 가져간 주문의 결과를 반드시 채움
+ * - custom.orders.intake.groupCommit.enabled=true 일 때만 사용 (기본은 요청마다 바로 createOrders)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersIntakeService {
+
+    private final OrdersService ordersService;
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+    private final PlatformTransactionManager transactionManager;
+
+    @Getter
+    @Value("${custom.orders.intake.groupCommit.enabled:false}")
+    private boolean enabled;
+    @Value("${custom.orders.intake.groupCommit.queueCapacity:1000}")
+    private int queueCapacity;
+    @Value("${custom.orders.intake.groupCommit.maxBatchSize:50}")
+    private int maxBatchSize;
+    @Value("${custom.orders.intake.groupCommit.maxWaitMs:5}")
+    private long maxWaitMs;
+    @Value("${custom.orders.intake.groupCommit.resultTimeoutSeconds:10}")
+    private long resultTimeoutSeconds;
+
+    private BlockingQueue<PendingOrder> queue;
+    private Thread committer;
+    private volatile boolean running;
+
+    public record OrderCommand(String email, String address, int zipCode, List<OrdersService.OrderItem> items) {}
+
+    // claimed: 커밋 스레드(처리) 또는 요청 스레드(취소) 중 먼저 가져간 쪽만 진행
+    private record PendingOrder(OrderCommand command, CompletableFuture<Orders> result, AtomicBoolean claimed) {
+
+        PendingOrder(OrderCommand command) {
+            this(command, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        committer = new Thread(this::runCommitter, "orders-intake-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (committer == null) {
+            return;
+        }
+        running = false;
+        committer.interrupt();
+        committer.join(TimeUnit.SECONDS.toMillis(resultTimeoutSeconds));
+    }
+
+    // 주문을 큐에 넣고 그룹 커밋 결과를 기다림
+    public Orders submitAndWait(OrderCommand command) {
+        PendingOrder pending = new PendingOrder(command);
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceException(ErrorCode.ORDER_INTAKE_BUSY);
+        }
+
+        try {
+            try {
+                return pending.result().get(resultTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException | InterruptedException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                // 아직 처리 전이면 취소 - 커밋되지 않음이 보장되므로 재시도해도 안전
+                if (pending.claim()) {
+                    queue.remove(pending);
+                    throw new ServiceException(ErrorCode.ORDER_INTAKE_BUSY);
+                }
+                // 이미 커밋 중이면 결과를 한 번 더 기다려 그대로 반환 (커밋된 주문을 실패로 알리지 않음)
+                return awaitClaimed(pending);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Orders awaitClaimed(PendingOrder pending) throws ExecutionException {
+        try {
+            return pending.result().get(resultTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("그룹 커밋 결과 대기 시간 초과 - 커밋 여부를 알 수 없음");
+            throw new ServiceException(ErrorCode.ORDER_STATUS_UNKNOWN);
+        }
+    }
+
+    private void runCommitter() {
+        List<PendingOrder> group = new ArrayList<>(maxBatchSize);
+
+        // 종료 신호를 받아도 큐에 남은 주문까지 처리하고 끝냄
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                group.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (group.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) break;
+                    group.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호 - 모아 둔 주문은 아래에서 마저 커밋
+            }
+
+            Throwable failure = null;
+            try {
+                if (!group.isEmpty()) commitGroup(group);
+            } catch (Throwable e) {
+                log.error("주문 그룹 커밋 처리 중 오류", e);
+                failure = e;
+            } finally {
+                // 결과를 받지 못한 주문이 남지 않게 함 (이미 완료된 주문에는 영향 없음)
+                Throwable cause = failure != null ? failure : new IllegalStateException("주문 그룹 커밋 결과 없음");
+                group.forEach(p -> p.result().completeExceptionally(cause));
+                group.clear();
+            }
+        }
+    }
+
+    private void commitGroup(List<PendingOrder> group) {
+        // 요청 쪽에서 이미 취소한 주문은 제외
+        group.removeIf(pending -> !pending.claim());
+        if (group.isEmpty()) {
+            return;
+        }
+
+        List<PendingOrder> accepted = precheck(group);
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 1) 그룹 전체를 한 트랜잭션으로 커밋
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            List<Orders> created = transactionTemplate.execute(status -> {
+                List<Orders> results = new ArrayList<>(accepted.size());
+                for (PendingOrder pending : accepted) {
+                    results.add(create(pending.command()));
+                }
+                return results;
+            });
+
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).result().complete(created.get(i));
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.debug("그룹 커밋 실패, 개별 커밋으로 재시도: {}", e.getMessage());
+        }
+
+        // 2) 실패 시 주문별 개별 트랜잭션으로 처리 (실패한 주문만 실패 응답)
+        for (PendingOrder pending : accepted) {
+            try {
+                pending.result().complete(create(pending.command()));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 그룹 커밋 전에 메모리에서 미리 검증
+     * - 상품 존재/수량/재고를 그룹 내 주문 순서대로 차감해 보며 확인하고, 실패할 주문은 바로 실패 처리
+     * - 재고 장부 사용 시에는 DB 재고가 실제 가용 재고가 아니므로 재고 확인은 생략
+     */
+    private List<PendingOrder> precheck(List<PendingOrder> group) {
+        Map<Integer, Integer> remaining = productRepository.findAllById(
+                group.stream()
+                        .flatMap(p -> p.command().items().stream())
+                        .map(OrdersService.OrderItem::productId)
+                        .collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(Product::getProductId, Product::getQuantity));
+
+        List<PendingOrder> accepted = new ArrayList<>(group.size());
+        for (PendingOrder pending : group) {
+            Map<Integer, Integer> requested = new HashMap<>();
+            for (OrdersService.OrderItem item : pending.command().items()) {
+                requested.merge(item.productId(), item.quantity(), Integer::sum);
+            }
+
+            ErrorCode error = null;
+            for (Map.Entry<Integer, Integer> e : requested.entrySet()) {
+                Integer available = remaining.get(e.getKey());
+                if (available == null) {
+                    error = ErrorCode.PRODUCT_NOT_FOUND;
+                } else if (e.getValue() <= 0) {
+                    error = ErrorCode.ORDER_INVALID_QUANTITY;
+                } else if (!stockLedger.isEnabled() && available < e.getValue()) {
+                    error = ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE;
+                }
+                if (error != null) break;
+            }
+
+            if (error != null) {
+                pending.result().completeExceptionally(new ServiceException(error));
+                continue;
+            }
+
+            requested.forEach((productId, quantity) -> remaining.merge(productId, -quantity, Integer::sum));
+            accepted.add(pending);
+        }
+        return accepted;
+    }
+
+    private Orders create(OrderCommand command) {
+        return ordersService.createOrders(command.email(), command.address(), command.zipCode(), command.items());
+    }
+}
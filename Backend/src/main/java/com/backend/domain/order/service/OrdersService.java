@@ -1,5 +1,9 @@
 package com.backend.domain.order.service;
 
+import com.backend.domain.order.dto.OrdersDto;
+import com.backend.domain.order.dto.OrdersRow;
+import com.backend.domain.order.dto.OrdersVersionDto;
+import com.backend.domain.order.dto.OrdersWithDetails;
 import com.backend.domain.order.entity.OrderStatus;
 import com.backend.domain.order.entity.Orders;
 import com.backend.domain.order.entity.OrdersDetail;
@@ -7,16 +11,27 @@ import com.backend.domain.order.repository.OrdersDetailRepository;
 import com.backend.domain.order.repository.OrdersRepository;
 import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.repository.ProductRepository;
+import com.backend.domain.product.service.ProductStockService;
+import com.backend.global.aspect.RetryOnConflict;
 import com.backend.global.exception.ErrorCode;
 import com.backend.global.exception.ServiceException;
+import com.backend.standard.ut.Ut;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +41,8 @@ public class OrdersService {
     private final OrdersRepository ordersRepository;
     private final OrdersDetailRepository ordersDetailRepository;
     private final ProductRepository productRepository;
+    private final ProductStockService productStockService;
+    private final OrdersHistoryCache ordersHistoryCache;
 
     public Long count() {
         return ordersRepository.count();
@@ -35,12 +52,6 @@ public class OrdersService {
     public record OrderItem(int productId, int quantity) {}
 
     public Orders createOrders(String email, String address, int zipCode, List<OrderItem> items) {
-        // 디버깅용 로그 추가
-        System.out.println("🔍 OrdersService.createOrders() 호출됨:");
-        System.out.println("Email: " + email);
-        System.out.println("Address: " + address);
-        System.out.println("ZipCode: " + zipCode);
-        
         // 주문 엔티티 생성
         Orders order = new Orders();
         order.setEmail(email);
@@ -48,64 +59,187 @@ public class OrdersService {
         order.setZipCode(zipCode);
         order.setOrderDate(LocalDateTime.now());
         order.setStatus(OrderStatus.PENDING);
-        
-        System.out.println("🔍 Orders 엔티티 설정 후:");
-        System.out.println("order.getAddress(): " + order.getAddress());
 
-
-        // 총 가격 계산 및 주문 상세 생성
-        int totalPrice = 0;
+        // 같은 상품이 여러 줄이면 수량을 합산해 상품별 주문 상세 하나로 만듦
+        Map<Integer, Integer> requestedQty = new TreeMap<>();
         for (OrderItem item : items) {
-            Product product = productRepository.findById(item.productId())
-                    .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
-
             if (item.quantity() <= 0) {
                 throw new ServiceException(ErrorCode.ORDER_INVALID_QUANTITY);
             }
-            if (product.getQuantity() < item.quantity()) {
-                throw new ServiceException(ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE);
+            requestedQty.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+
+        // 주문 상품 일괄 조회 (아이템 수와 관계없이 한 번의 쿼리)
+        Map<Integer, Product> products = findProductsByIds(requestedQty.keySet());
+
+        // 총 가격 계산 및 주문 상세 생성
+        int totalPrice = 0;
+        for (Map.Entry<Integer, Integer> e : requestedQty.entrySet()) {
+            Product product = products.get(e.getKey());
+            if (product == null) {
+                throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
             }
 
             // 주문 상세 생성
             OrdersDetail orderDetail = new OrdersDetail();
             orderDetail.setProduct(product);
-            orderDetail.setOrderQuantity(item.quantity());
-            orderDetail.setPrice(product.getProductPrice() * item.quantity());
+            orderDetail.setOrderQuantity(e.getValue());
+            orderDetail.setPrice(product.getProductPrice() * e.getValue());
             order.addDetail(orderDetail);
 
-
-            // 재고 차감
-            product.setQuantity(product.getQuantity() - item.quantity());
             totalPrice += orderDetail.getPrice();
         }
 
+        // 재고 차감 (조건부 UPDATE, productId 오름차순)
+        requestedQty.forEach(productStockService::decrease);
+
         // 총 가격 업데이트
         order.setTotalPrice(totalPrice);
-        
-        System.out.println("🔍 DB 저장 전 Orders 엔티티:");
-        System.out.println("order.getAddress(): " + order.getAddress());
-        
+
         Orders savedOrder = ordersRepository.save(order);
-        
-        System.out.println("🔍 DB 저장 후 Orders 엔티티:");
-        System.out.println("savedOrder.getAddress(): " + savedOrder.getAddress());
-        
+        ordersHistoryCache.evictAfterCommit(email);
+
         return savedOrder;
     }
 
+    // productId 목록으로 상품을 한 번에 조회
+    private Map<Integer, Product> findProductsByIds(Collection<Integer> productIds) {
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, p -> p));
+    }
+
+
+    // 주문 목록 페이지
+    public record OrdersPage(List<OrdersWithDetails> orders, String nextCursor, boolean hasNext, String etag) {}
 
-    // 이메일로 주문 목록 조회
+    /**
+     * 이메일로 주문 목록 조회 (최신순, 커서 기반)
+     * - (email, order_date, order_id) 인덱스로 페이지의 주문 id 만 먼저 읽으므로 전체 주문 수와 관계없이 size 만큼만 읽음
+     * - 주문/상세/상품명은 페이지당 한 번의 조인 프로젝션으로 조회 (엔티티 로딩 없음)
+     */
     @Transactional(readOnly = true)
-    public List<Orders> findByEmail(String email) {
-        List<Orders> orders = ordersRepository.findByEmailOrderByOrderDateDesc(email);
-        if (orders.isEmpty()) {
-            throw new ServiceException(ErrorCode.ORDER_LIST_EMPTY);
+    public OrdersPage findByEmail(String email, String cursor, int size) {
+        return findByEmail(email, cursor, size, etag -> false);
+    }
+
+    /**
+     * notModified 가 true 를 반환하면 (클라이언트 ETag 일치) 목록을 조회하지 않고 null 반환
+     * - ETag 는 페이지 주문들의 버전 + 주문 상품명으로 계산 (응답 본문 해시 아님, 재고 변경에는 영향받지 않음)
+     */
+    @Transactional(readOnly = true)
+    public OrdersPage findByEmail(String email, String cursor, int size, Predicate<String> notModified) {
+        boolean firstPage = cursor == null || cursor.isBlank();
+        Limit limit = Limit.of(size + 1); // 다음 페이지 여부 확인용으로 1건 더 조회
+
+        List<Integer> orderIds;
+        if (firstPage) {
+            orderIds = ordersRepository.findFirstPageIdsByEmail(email, limit);
+            if (orderIds.isEmpty()) {
+                throw new ServiceException(ErrorCode.ORDER_LIST_EMPTY);
+            }
+        } else {
+            OrdersCursor after = OrdersCursor.decode(cursor);
+            orderIds = ordersRepository.findPageIdsByEmailAfter(email, after.orderDate(), after.id(), limit);
         }
-        // Lazy Loading 강제 초기화
-        for (Orders order : orders) {
-            order.getOrderDetails().size(); // 강제 로딩
+
+        boolean hasNext = orderIds.size() > size;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, size);
+        }
+
+        String etag = versionETag("ol", orderIds);
+        if (notModified.test(etag)) {
+            return null;
+        }
+
+        // 첫 페이지 캐시는 방금 계산한 ETag 와 같을 때만 사용 (다른 노드에서 바뀐 주문도 바로 반영)
+        if (firstPage) {
+            OrdersPage cached = ordersHistoryCache.get(email, size);
+            if (cached != null && cached.etag().equals(etag) && cached.hasNext() == hasNext) {
+                return cached;
+            }
+        }
+
+        List<OrdersWithDetails> orders = orderIds.isEmpty()
+                ? List.of()
+                : OrdersRow.group(ordersRepository.findRowsByIds(orderIds));
+
+        String nextCursor = hasNext ? OrdersCursor.of(orders.get(orders.size() - 1).ordersDto()).encode() : null;
+        OrdersPage page = new OrdersPage(orders, nextCursor, hasNext, etag);
+        if (firstPage) {
+            ordersHistoryCache.put(email, size, page);
+        }
+        return page;
+    }
+
+    // 주문 id 목록의 버전 + 상품명으로 ETag 생성 (주문이 없으면 ORDER_NOT_FOUND)
+    private String versionETag(String prefix, List<Integer> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Ut.etag.of(prefix, "");
         }
-        return orders;
+
+        // 주문별 "id.version" + 상세별 "|detailId:상품명"
+        Map<Integer, StringBuilder> keys = new HashMap<>();
+        for (OrdersVersionDto row : ordersRepository.findVersionsByIds(orderIds)) {
+            StringBuilder key = keys.computeIfAbsent(row.orderId(), id -> new StringBuilder().append(id).append('.').append(row.version()));
+            if (row.detailId() != null) {
+                key.append('|').append(row.detailId()).append(':').append(row.productName());
+            }
+        }
+        if (keys.size() != orderIds.size()) {
+            throw new ServiceException(ErrorCode.ORDER_NOT_FOUND);
+        }
+
+        return Ut.etag.of(prefix, orderIds.stream()
+                .map(id -> keys.get(id).toString())
+                .collect(Collectors.joining(",")));
+    }
+
+    // 주문 목록 커서 - 마지막 주문의 (orderDate, id) 를 base64url 로 인코딩
+    private record OrdersCursor(LocalDateTime orderDate, int id) {
+
+        static OrdersCursor of(OrdersDto ordersDto) {
+            return new OrdersCursor(ordersDto.orderDate(), ordersDto.id());
+        }
+
+        static OrdersCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('_');
+                return new OrdersCursor(
+                        LocalDateTime.parse(decoded.substring(0, separator)),
+                        Integer.parseInt(decoded.substring(separator + 1))
+                );
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new ServiceException(ErrorCode.ORDER_INVALID_CURSOR);
+            }
+        }
+
+        String encode() {
+            String raw = orderDate + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // ID로 주문 조회 (조회 응답용 프로젝션)
+    @Transactional(readOnly = true)
+    public OrdersWithDetails findDetailById(int id) {
+        return findDetailById(id, etag -> false);
+    }
+
+    // notModified 가 true 를 반환하면 (클라이언트 ETag 일치) 주문을 조회하지 않고 null 반환
+    @Transactional(readOnly = true)
+    public OrdersWithDetails findDetailById(int id, Predicate<String> notModified) {
+        String etag = versionETag("o", List.of(id));
+        if (notModified.test(etag)) {
+            return null;
+        }
+
+        List<OrdersWithDetails> orders = OrdersRow.group(ordersRepository.findRowsById(id));
+        if (orders.isEmpty()) {
+            throw new ServiceException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        return orders.get(0);
     }
 
     // ID로 주문 조회
@@ -122,8 +256,9 @@ public class OrdersService {
 
 
     @Transactional
+    @RetryOnConflict
     public Orders updateOrders(int orderId, String address, Integer zipCode, List<OrderItem> items) {
-        Orders order = ordersRepository.findById(orderId)
+        Orders order = ordersRepository.findForUpdateById(orderId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.ORDER_NOT_FOUND));
 
         // 상태 기반 수정 가능 여부 확인
@@ -131,81 +266,123 @@ public class OrdersService {
             throw new ServiceException(ErrorCode.ORDER_NOT_MODIFIABLE);
         }
 
+        int totalPrice = applyItemChanges(order, items);
+
+        // 주소/우편번호/총액 수정
+        if (address != null) order.setAddress(address);
+        if (zipCode != null) order.setZipCode(zipCode);
+        order.setTotalPrice(totalPrice);
+        ordersHistoryCache.evictAfterCommit(order.getEmail());
+
+        return ordersRepository.save(order);
+    }
+
+    /**
+     * 주문 상세를 요청 수량에 맞게 차이만 반영하고 새 총액 반환 (고객/관리자 수정 공용)
+     * - 수량이 바뀐 상세만 수정, 빠진 상품은 삭제, 새 상품만 추가 (그대로인 상세는 쓰지 않음)
+     * - 재고는 상품별 순증감만, 상품 id 오름차순으로 반영
+     *   (겹치는 주문을 동시에 수정해도 상품 행 락을 같은 순서로 잡아 교착 상태 방지)
+     */
+    public int applyItemChanges(Orders order, List<OrderItem> items) {
         // 요청 아이템 productId별 합산(중복 productId 방지)
-        Map<Integer, Integer> requestedQty = new LinkedHashMap<>();
+        Map<Integer, Integer> requestedQty = new TreeMap<>();
         for (OrderItem item : items) {
             if (item.quantity() <= 0) throw new ServiceException(ErrorCode.ORDER_INVALID_QUANTITY);
             requestedQty.merge(item.productId(), item.quantity(), Integer::sum);
         }
 
-        Map<Integer, OrdersDetail> current = order.getOrderDetails().stream()
-                .collect(Collectors.toMap(d -> d.getProduct().getProductId(), d -> d));
+        Map<Integer, OrdersDetail> current = mergeDuplicateDetails(order);
 
-        int totalPrice = 0;
+        // 수량이 바뀌거나 새로 추가되는 상품만 조회
+        Map<Integer, Product> products = findProductsByIds(requestedQty.entrySet().stream()
+                .filter(e -> !current.containsKey(e.getKey())
+                        || !current.get(e.getKey()).getOrderQuantity().equals(e.getValue()))
+                .map(Map.Entry::getKey)
+                .toList());
+
+        // 상품별 재고 순증감 (양수 = 차감, 음수 = 복원)
+        Map<Integer, Integer> stockDelta = new TreeMap<>();
 
-        // 요청에 있는 상품 처리 (수정 or 신규)
         for (Map.Entry<Integer, Integer> e : requestedQty.entrySet()) {
             int productId = e.getKey();
             int newQty = e.getValue();
 
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
-
             OrdersDetail existing = current.remove(productId); // 처리된 기존 상품은 current에서 제거
+            if (existing != null && existing.getOrderQuantity() == newQty) {
+                continue; // 변경 없음 - 주문 당시 금액 유지
+            }
+
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
 
             if (existing != null) {
                 // 수정: 수량 차이만큼 재고 증감, 금액 갱신
-                int oldQty = existing.getOrderQuantity();
-                int diff = newQty - oldQty;
-
-                if (diff > 0) { // 수량 증가 → 재고 차감
-                    if (product.getQuantity() < diff) {
-                        throw new ServiceException(ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE);
-                    }
-                    product.setQuantity(product.getQuantity() - diff);
-                } else if (diff < 0) { // 수량 감소 → 재고 복원
-                    product.setQuantity(product.getQuantity() + (-diff));
-                }
-                productRepository.save(product);
-
+                stockDelta.put(productId, newQty - existing.getOrderQuantity());
                 existing.setOrderQuantity(newQty);
                 existing.setPrice(product.getProductPrice() * newQty); // 기존 상품 id 유지
-                totalPrice += existing.getPrice();
-
             } else {
-                // 재고 차감
-                if (product.getQuantity() < newQty) {
-                    throw new ServiceException(ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE);
-                }
-                product.setQuantity(product.getQuantity() - newQty);
+                stockDelta.put(productId, newQty);
 
                 OrdersDetail orderDetail = new OrdersDetail();
                 orderDetail.setProduct(product);
                 orderDetail.setOrderQuantity(newQty);
                 orderDetail.setPrice(product.getProductPrice() * newQty);
                 order.addDetail(orderDetail);
-
-                totalPrice += orderDetail.getPrice();
             }
         }
 
         // 요청에 빠진 기존 상품 삭제 + 재고 복원
         for (OrdersDetail toRemove : current.values()) {
-            Product product = toRemove.getProduct();
-            product.setQuantity(product.getQuantity() + toRemove.getOrderQuantity());
+            stockDelta.put(toRemove.getProduct().getProductId(), -toRemove.getOrderQuantity());
             order.removeDetail(toRemove);
         }
 
-        // 주소/우편번호/총액 수정
-        if (address != null) order.setAddress(address);
-        if (zipCode != null) order.setZipCode(zipCode);
-        order.setTotalPrice(totalPrice);
+        stockDelta.forEach((productId, delta) -> {
+            if (delta > 0) {
+                productStockService.decrease(productId, delta);
+            } else if (delta < 0) {
+                productStockService.increase(productId, -delta);
+            }
+        });
 
-        return ordersRepository.save(order);
+        return order.getOrderDetails().stream().mapToInt(OrdersDetail::getPrice).sum();
     }
 
+    /**
+     * 상품별 기존 주문 상세 (예전에 같은 상품을 여러 줄로 만든 주문은 한 줄로 합침)
+     * - 수량/금액은 합산하고 나머지 상세는 삭제 (재고는 총수량이 같으므로 그대로)
+     */
+    private Map<Integer, OrdersDetail> mergeDuplicateDetails(Orders order) {
+        Map<Integer, List<OrdersDetail>> byProduct = order.getOrderDetails().stream()
+                .collect(Collectors.groupingBy(d -> d.getProduct().getProductId()));
+
+        Map<Integer, OrdersDetail> merged = new HashMap<>();
+        byProduct.forEach((productId, details) -> {
+            OrdersDetail kept = details.getFirst();
+            for (OrdersDetail duplicate : details.subList(1, details.size())) {
+                kept.setOrderQuantity(kept.getOrderQuantity() + duplicate.getOrderQuantity());
+                kept.setPrice(kept.getPrice() + duplicate.getPrice());
+                order.removeDetail(duplicate);
+            }
+            merged.put(productId, kept);
+        });
+        return merged;
+    }
+
+    // 취소 시 주문 상품 재고 원복 (상품 id 오름차순)
+    public void restoreStock(Orders orders) {
+        orders.getOrderDetails().stream()
+                .sorted(Comparator.comparing(detail -> detail.getProduct().getProductId()))
+                .forEach(detail -> productStockService.increase(detail.getProduct().getProductId(), detail.getOrderQuantity()));
+    }
+
+
+    @RetryOnConflict
+    public void deleteOrders(int orderId) {
+        Orders orders = findById(orderId);
 
-    public void deleteOrders(Orders orders) {
         // 상태 기반 취소 가능 여부 확인
         if (!orders.getStatus().isCustomerModifiable()) {
             throw new ServiceException(ErrorCode.ORDER_NOT_MODIFIABLE);
@@ -216,14 +393,12 @@ public class OrdersService {
         }
 
         // 재고 원복
-        for (OrdersDetail detail : orders.getOrderDetails()) {
-            Product product = detail.getProduct();
-            product.setQuantity(product.getQuantity() + detail.getOrderQuantity());
-        }
+        restoreStock(orders);
 
         // 주문 상태 변경
         orders.setStatus(OrderStatus.CANCELLED);
         ordersRepository.save(orders);
+        ordersHistoryCache.evictAfterCommit(orders.getEmail());
     }
 
 
@@ -231,14 +406,4 @@ public class OrdersService {
     public boolean canModifyOrder(Orders order) {
         return order.getStatus().isCustomerModifiable();
     }
-
-    // 14시 기준 주문 자동 확정 처리
-    public void confirmPendingOrders() {
-        List<Orders> pendingOrders = ordersRepository.findByStatus(OrderStatus.PENDING);
-
-        for (Orders order : pendingOrders) {
-            order.setStatus(OrderStatus.CONFIRMED);
-            ordersRepository.save(order);
-        }
-    }
 }
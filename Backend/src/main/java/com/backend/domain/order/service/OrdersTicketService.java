@@ -0,0 +1,132 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.order.dto.OrdersTicketDto;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.entity.OrdersTicket;
+import com.backend.domain.order.repository.OrdersTicketRepository;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 주문 접수
+ * - 요청을 제한된 작업 큐에 넣고 바로 티켓을 발급, 작업 스레드가 OrdersService 로 주문을 생성
+ * - 큐가 가득 차면 ORDER_QUEUE_FULL(429)로 거절하여 폭주 시에도 접수 응답 시간을 일정하게 유지
+ * - 티켓은 orders_ticket 테이블에 보관하므로 어느 노드로 조회해도 됨 (만료 전에는 처리 중인 티켓이 지워지지 않음)
+ * - 요청마다 바로 생성하는 경우 주문 생성과 ACCEPTED 기록을 한 트랜잭션으로 처리
+ * - 작업 큐는 노드 메모리에 있으므로 처리 전에 노드가 종료되면 티켓은 만료될 때까지 QUEUED 로 남음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersTicketService {
+
+    private final OrdersService ordersService;
+    private final OrdersIntakeService ordersIntakeService;
+    private final OrdersTicketRepository ordersTicketRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${custom.orders.async.workers:4}")
+    private int workers;
+    @Value("${custom.orders.async.queueCapacity:500}")
+    private int queueCapacity;
+    @Value("${custom.orders.async.ticketTtlSeconds:3600}")
+    private long ticketTtlSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNo = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "orders-async-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // 주문 접수 - 티켓 발급 후 바로 반환
+    public OrdersTicketDto submit(OrdersIntakeService.OrderCommand command) {
+        OrdersTicket ticket = ordersTicketRepository.save(
+                new OrdersTicket(UUID.randomUUID().toString(), LocalDateTime.now().plusSeconds(ticketTtlSeconds)));
+        String ticketId = ticket.getTicketId();
+
+        try {
+            executor.execute(() -> process(ticketId, command));
+        } catch (RejectedExecutionException e) {
+            ordersTicketRepository.deleteById(ticketId);
+            throw new ServiceException(ErrorCode.ORDER_QUEUE_FULL);
+        }
+        return ticket.toDto();
+    }
+
+    @Transactional(readOnly = true)
+    public OrdersTicketDto getTicket(String ticketId) {
+        return ordersTicketRepository.findById(ticketId)
+                .filter(ticket -> ticket.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(OrdersTicket::toDto)
+                .orElseThrow(() -> new ServiceException(ErrorCode.ORDER_TICKET_NOT_FOUND));
+    }
+
+    // 만료된 티켓 정리
+    @Transactional
+    public int purgeExpired() {
+        return ordersTicketRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private void process(String ticketId, OrdersIntakeService.OrderCommand command) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            if (ordersIntakeService.isEnabled()) {
+                // 그룹 커밋은 커밋 스레드의 트랜잭션에서 처리되므로 결과는 따로 기록
+                Orders orders = ordersIntakeService.submitAndWait(command);
+                complete(transactionTemplate, ticketId, OrdersTicketDto.Status.ACCEPTED, orders.getId(), null);
+            } else {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Orders orders = ordersService.createOrders(command.email(), command.address(), command.zipCode(), command.items());
+                    ordersTicketRepository.complete(ticketId, OrdersTicketDto.Status.QUEUED,
+                            OrdersTicketDto.Status.ACCEPTED, orders.getId(), null);
+                });
+            }
+        } catch (ServiceException e) {
+            complete(transactionTemplate, ticketId, OrdersTicketDto.Status.REJECTED, null, e.getErrorCode().getMessage());
+        } catch (RuntimeException e) {
+            log.error("비동기 주문 처리 실패 - ticket {}", ticketId, e);
+            complete(transactionTemplate, ticketId, OrdersTicketDto.Status.REJECTED, null, "주문 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void complete(TransactionTemplate transactionTemplate, String ticketId,
+                          OrdersTicketDto.Status status, Integer orderId, String message) {
+        transactionTemplate.executeWithoutResult(tx ->
+                ordersTicketRepository.complete(ticketId, OrdersTicketDto.Status.QUEUED, status, orderId, message));
+    }
+}
@@ -1,30 +1,53 @@
 package com.backend.domain.product.controller;
 
-import com.backend.domain.product.dto.ProductResponseDto;
-import com.backend.domain.product.dto.ProductDetailResponseDto;
-import com.backend.domain.product.service.ProductService;
+import com.backend.domain.product.service.ProductCatalogue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ProductController {
 
-    private final ProductService productService;
+    private final ProductCatalogue productCatalogue;
 
-    // 전체 상품 목록 조회
+    // 전체 상품 목록 조회 (미리 직렬화된 스냅샷)
     @GetMapping
-    public ResponseEntity<List<ProductResponseDto>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        return toResponse(productCatalogue.list(), acceptEncoding, webRequest);
     }
 
-    // 상품 상세 조회
+    // 상품 상세 조회 (미리 직렬화된 스냅샷)
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductDetailResponseDto> getProductById(@PathVariable("productId") Integer id) {
-        return ResponseEntity.ok(productService.getProductById(id));
+    public ResponseEntity<byte[]> getProductById(
+            @PathVariable("productId") Integer id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        return toResponse(productCatalogue.detail(id), acceptEncoding, webRequest);
+    }
+
+    // If-None-Match 가 같으면 304, 클라이언트가 gzip 을 받으면 압축해 둔 바이트를 그대로 전송
+    private ResponseEntity<byte[]> toResponse(ProductCatalogue.Payload payload, String acceptEncoding, WebRequest webRequest) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        // 강한 ETag 는 표현(인코딩)마다 달라야 하므로 gzip 본문은 별도 ETag
+        String etag = gzip ? payload.etag().replaceFirst("\"$", "-gz\"") : payload.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? payload.gzip() : payload.json());
     }
 }
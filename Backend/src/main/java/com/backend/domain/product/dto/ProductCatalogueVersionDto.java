@@ -0,0 +1,9 @@
+package com.backend.domain.product.dto;
+
+// 상품 테이블 전체 변경 여부 판단용 요약 (상품 수, 버전 합, 최대 id, 재고 합)
+public record ProductCatalogueVersionDto(
+        Long productCount,
+        Long versionSum,
+        Integer maxProductId,
+        Long quantitySum
+) {}
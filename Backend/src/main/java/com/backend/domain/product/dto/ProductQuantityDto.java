@@ -0,0 +1,7 @@
+package com.backend.domain.product.dto;
+
+// 상품 재고만 조회할 때 사용하는 프로젝션
+public record ProductQuantityDto(
+        Integer productId,
+        Integer quantity
+) {}
@@ -25,9 +25,15 @@ public class Product {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    // 재고는 엔티티 저장으로 덮어쓰지 않음 - 주문/관리자 모두 증감 UPDATE(ProductRepository, ProductStockService)로만 변경
+    @Column(nullable = false, updatable = false)
     private int quantity;
 
     @Column(name = "image_url")
     private String imageUrl;
+
+    // 낙관적 락 버전 (관리자 상품 수정 간 충돌 감지) - 재고 증감 UPDATE 는 올리지 않음
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
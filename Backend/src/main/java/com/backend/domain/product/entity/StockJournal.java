@@ -0,0 +1,40 @@
+package com.backend.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인메모리 재고 장부(StockLedger) 사용 시 주문 트랜잭션과 함께 기록되는 재고 증감 내역
+ * - 스케줄러가 주기적으로 product.quantity 에 합산한 뒤 삭제
+ * - 서버가 비정상 종료되어도 커밋된 내역은 남아 있으므로 재시작 시 그대로 반영
+ */
+@Entity
+@Table(name = "stock_journal", indexes = @Index(name = "idx_stock_journal_product", columnList = "product_id"))
+@Getter
+@NoArgsConstructor
+public class StockJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_journal_seq_generator")
+    @SequenceGenerator(name = "stock_journal_seq_generator", sequenceName = "stock_journal_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    // 음수: 차감(예약), 양수: 복원
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public StockJournal(int productId, int delta) {
+        this.productId = productId;
+        this.delta = delta;
+        this.createdAt = LocalDateTime.now();
+    }
+}
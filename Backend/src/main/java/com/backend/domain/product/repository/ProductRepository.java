@@ -1,11 +1,50 @@
 package com.backend.domain.product.repository;
 
+import com.backend.domain.product.dto.ProductCatalogueVersionDto;
+import com.backend.domain.product.dto.ProductQuantityDto;
 import com.backend.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 
-}
+    // 재고가 충분할 때만 차감 (영향받은 행 수 0 = 재고 부족 또는 상품 없음)
+    // 재고 증감은 버전을 올리지 않음 - 주문 차감이 관리자 상품 수정과 충돌하지 않도록
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity WHERE p.productId = :productId AND p.quantity >= :quantity")
+    int decreaseQuantity(@Param("productId") int productId, @Param("quantity") int quantity);
+
+    // 재고 복원
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :quantity WHERE p.productId = :productId")
+    int increaseQuantity(@Param("productId") int productId, @Param("quantity") int quantity);
+
+    // 관리자 재고 조정 (0 미만이면 0)
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = CASE WHEN p.quantity + :delta < 0 THEN 0 ELSE p.quantity + :delta END WHERE p.productId = :productId")
+    int adjustQuantity(@Param("productId") int productId, @Param("delta") int delta);
 
+    // 영속성 컨텍스트를 거치지 않고 현재 재고만 조회
+    @Query("SELECT p.quantity FROM Product p WHERE p.productId = :productId")
+    Optional<Integer> findQuantityById(@Param("productId") int productId);
+
+    // 여러 상품의 현재 재고만 조회
+    @Query("SELECT new com.backend.domain.product.dto.ProductQuantityDto(p.productId, p.quantity) FROM Product p WHERE p.productId IN :productIds")
+    List<ProductQuantityDto> findQuantitiesByIds(@Param("productIds") Collection<Integer> productIds);
+
+    // 카탈로그 스냅샷 최신 여부 확인 - 등록/삭제(수, 최대 id), 수정(버전 합), 재고 증감(재고 합) 중 하나라도 바뀌면 값이 달라짐
+    @Query("""
+            SELECT new com.backend.domain.product.dto.ProductCatalogueVersionDto(
+                COUNT(p), COALESCE(SUM(p.version), 0L), COALESCE(MAX(p.productId), 0), COALESCE(SUM(p.quantity), 0L))
+            FROM Product p
+            """)
+    ProductCatalogueVersionDto findCatalogueVersion();
+}
@@ -0,0 +1,27 @@
+package com.backend.domain.product.repository;
+
+import com.backend.domain.product.entity.StockJournal;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockJournalRepository extends JpaRepository<StockJournal, Long> {
+
+    List<StockJournal> findAllByOrderByIdAsc(Limit limit);
+
+    @Query("SELECT COALESCE(SUM(j.delta), 0L) FROM StockJournal j WHERE j.productId = :productId")
+    Long sumDeltaByProductId(@Param("productId") int productId);
+
+    // 읽어 온 id만 정확히 삭제 (아직 커밋되지 않은 내역은 건드리지 않음)
+    @Modifying
+    @Query("DELETE FROM StockJournal j WHERE j.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    List<StockJournal> findAllByProductIdOrderByIdAsc(int productId);
+}
@@ -0,0 +1,70 @@
+package com.backend.domain.product.scheduler;
+
+import com.backend.domain.product.repository.ProductRepository;
+import com.backend.domain.product.service.ProductStockService;
+import com.backend.domain.product.service.StockLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockLedgerScheduler implements SmartInitializingSingleton {
+
+    private final StockLedger stockLedger;
+    private final ProductStockService productStockService;
+    private final ProductRepository productRepository;
+
+    @Value("${custom.stock.ledger.flushBatchSize:500}")
+    private int flushBatchSize;
+
+    /**
+     * 기동 시 재고 정합성 복구
+     * - 이전 실행에서 반영되지 못한 저널을 모두 product 테이블에 반영한 뒤 메모리 장부를 DB 값으로 적재
+     * - 장부를 끈 상태에서도 남은 저널은 반영해야 DB 재고가 맞으므로 항상 수행
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        int flushed = flushAll();
+        if (flushed > 0) {
+            log.info("재고 저널 복구 반영: {}건", flushed);
+        }
+
+        if (stockLedger.isEnabled()) {
+            stockLedger.seed(productRepository.findAll());
+            log.info("인메모리 재고 장부 적재 완료");
+        }
+    }
+
+    // 저널에 쌓인 재고 증감을 주기적으로 DB에 반영 (write-behind)
+    // 장부를 끈 상태에서는 저널이 쌓이지 않으므로 조회하지 않음 (남은 저널은 기동 시 복구에서 반영)
+    @Scheduled(fixedDelayString = "${custom.stock.ledger.flushIntervalMs:500}")
+    public void flushJournal() {
+        if (!stockLedger.isEnabled()) {
+            return;
+        }
+        try {
+            int flushed = flushAll();
+            if (flushed > 0) {
+                log.debug("재고 저널 반영: {}건", flushed);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            log.warn("재고 저널 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private int flushAll() {
+        int total = 0;
+        int flushed;
+        do {
+            flushed = productStockService.flushJournal(flushBatchSize);
+            total += flushed;
+        } while (flushed == flushBatchSize);
+        return total;
+    }
+}
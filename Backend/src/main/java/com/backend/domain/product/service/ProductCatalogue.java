@@ -0,0 +1,230 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.product.dto.ProductCatalogueVersionDto;
+import com.backend.domain.product.dto.ProductDetailResponseDto;
+import com.backend.domain.product.dto.ProductQuantityDto;
+import com.backend.domain.product.dto.ProductResponseDto;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.repository.ProductRepository;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import com.backend.standard.ut.Ut;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 카탈로그 스냅샷
+ * - 상품 목록/상세 응답을 미리 직렬화한 JSON(+gzip) 바이트로 보관하고 조회 시 그대로 반환 (Hibernate/Jackson 미사용)
+ * - 관리자 상품 등록/수정/삭제 커밋 후, 또는 재고가 임계값(custom.catalogue.stockThresholds)을 넘나들 때 다시 만들어 통째로 교체
+ * - 스냅샷은 노드마다 따로 가지므로, 다른 노드에서의 변경은 주기적으로 상품 테이블 요약값을 비교해 반영
+ *   (staleCheckIntervalMs 안에 모든 노드가 같은 스냅샷/ETag 로 수렴)
+ * - 그 사이의 재고 변화는 반영하지 않으므로 응답의 quantity 는 근사값 (실제 차감은 주문 경로의 조건부 UPDATE 가 판단)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalogue {
+
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.catalogue.stockThresholds:0,10}")
+    private int[] stockThresholds;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Set<Integer> stockChanged = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 미리 직렬화한 응답 본문 + 스냅샷 생성 시점 상품 버전으로 만든 ETag
+    public record Payload(byte[] json, byte[] gzip, String etag) {}
+
+    private record Snapshot(
+            ProductCatalogueVersionDto version, // 스냅샷을 만들 때 읽은 상품 테이블 요약값
+            Payload list,
+            Map<Integer, Payload> details,
+            Map<Integer, Integer> stockLevels // productId -> 재고 구간 (임계값 통과 여부 판단용)
+    ) {}
+
+    @PostConstruct
+    void init() {
+        stockThresholds = Arrays.stream(stockThresholds).sorted().toArray();
+    }
+
+    // 초기 데이터 적재(ApplicationRunner) 이후 첫 스냅샷 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    public Payload list() {
+        return current().list();
+    }
+
+    public Payload detail(int productId) {
+        Payload payload = current().details().get(productId);
+        if (payload == null) {
+            throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return payload;
+    }
+
+    // 상품 정보가 바뀐 경우 - 커밋 후 스냅샷 재생성
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    // 주문 등으로 재고가 바뀐 경우 - 표시만 하고 스케줄러에서 임계값 통과 여부 확인
+    public void markStockChanged(int productId) {
+        stockChanged.add(productId);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.catalogue.stockCheckIntervalMs:1000}")
+    public void checkStockThresholds() {
+        Snapshot current = snapshot.get();
+        if (current == null || stockChanged.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> changed = new HashSet<>();
+        for (Integer productId : stockChanged) {
+            stockChanged.remove(productId);
+            changed.add(productId);
+        }
+
+        boolean crossed = productRepository.findQuantitiesByIds(changed).stream()
+                .anyMatch(q -> !current.stockLevels().containsKey(q.productId())
+                        || current.stockLevels().get(q.productId()) != stockLevel(available(q)));
+        if (crossed) {
+            rebuild();
+        }
+    }
+
+    // 다른 노드의 상품 수정/주문 재고 변경 반영 - 상품 테이블 요약값이 스냅샷과 다르면 재생성
+    @Scheduled(fixedDelayString = "${custom.catalogue.staleCheckIntervalMs:5000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+        if (!current.version().equals(productRepository.findCatalogueVersion())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 스냅샷 재생성 후 원자적으로 교체
+     * - 재생성은 한 번에 하나씩 (매번 DB 를 새로 읽으므로 마지막 재생성이 항상 최신)
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            // 상품 조회보다 먼저 읽음 - 그 사이 바뀌면 다음 확인에서 다시 재생성
+            ProductCatalogueVersionDto version = productRepository.findCatalogueVersion();
+            List<Product> products = productRepository.findAll();
+
+            List<ProductResponseDto> list = products.stream()
+                    .map(ProductResponseDto::fromEntity)
+                    .toList();
+
+            Map<Integer, Payload> details = new HashMap<>();
+            Map<Integer, Integer> stockLevels = new HashMap<>();
+            StringBuilder listVersions = new StringBuilder();
+            for (Product product : products) {
+                // 재고 증감은 버전을 올리지 않으므로 재고도 함께 키에 포함
+                String versionKey = product.getProductId() + "." + product.getVersion() + "." + product.getQuantity();
+                listVersions.append(versionKey).append(',');
+                details.put(product.getProductId(), toPayload(
+                        ProductDetailResponseDto.fromEntity(product),
+                        Ut.etag.of("p", versionKey)
+                ));
+                stockLevels.put(product.getProductId(),
+                        stockLevel(available(new ProductQuantityDto(product.getProductId(), product.getQuantity()))));
+            }
+
+            Payload listPayload = toPayload(list, Ut.etag.of("pl", listVersions.toString()));
+            snapshot.set(new Snapshot(version, listPayload, Map.copyOf(details), Map.copyOf(stockLevels)));
+            log.debug("상품 카탈로그 스냅샷 교체 - {}건", products.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            rebuild();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    // 재고 장부 사용 시 DB 재고는 늦게 반영되므로 메모리 값을 우선
+    private int available(ProductQuantityDto quantity) {
+        if (stockLedger.isEnabled()) {
+            int available = stockLedger.available(quantity.productId());
+            if (available >= 0) {
+                return available;
+            }
+        }
+        return quantity.quantity();
+    }
+
+    // 재고가 몇 번째 임계값 구간에 있는지 (0 = 첫 임계값 이하)
+    private int stockLevel(int quantity) {
+        int level = 0;
+        while (level < stockThresholds.length && quantity > stockThresholds[level]) {
+            level++;
+        }
+        return level;
+    }
+
+    private Payload toPayload(Object body, String etag) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(json);
+            }
+            return new Payload(json, gzipped.toByteArray(), etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
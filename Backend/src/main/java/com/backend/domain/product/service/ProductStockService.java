@@ -0,0 +1,223 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.product.entity.StockJournal;
+import com.backend.domain.product.repository.ProductRepository;
+import com.backend.domain.product.repository.StockJournalRepository;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * 주문 경로의 재고 증감을 담당
+ * - 조회 후 setQuantity 하는 대신 조건부 UPDATE 한 번으로 차감 (동시 주문 시 lost update 방지)
+ * - StockLedger 가 켜져 있으면 메모리 장부에서 예약하고 StockJournal 에 기록 (DB 반영은 스케줄러)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final StockJournalRepository stockJournalRepository;
+    private final StockLedger stockLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductCatalogue productCatalogue;
+
+    // 재고 차감 - 재고가 부족하면 예외
+    public void decrease(int productId, int quantity) {
+        if (quantity <= 0) {
+            throw new ServiceException(ErrorCode.ORDER_INVALID_QUANTITY);
+        }
+
+        if (stockLedger.isEnabled()) {
+            reserveInLedger(productId, quantity);
+            return;
+        }
+
+        if (productRepository.decreaseQuantity(productId, quantity) == 0) {
+            throw new ServiceException(ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE);
+        }
+        markStockChangedAfterCommit(productId);
+    }
+
+    // 재고 복원
+    public void increase(int productId, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+
+        if (stockLedger.isEnabled()) {
+            stockJournalRepository.save(new StockJournal(productId, quantity));
+            // 커밋된 뒤에만 다른 주문이 쓸 수 있도록 복원
+            afterCompletion(status -> {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    stockLedger.release(productId, quantity);
+                    productCatalogue.markStockChanged(productId);
+                }
+            });
+            return;
+        }
+
+        if (productRepository.increaseQuantity(productId, quantity) == 0) {
+            throw new ServiceException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        markStockChangedAfterCommit(productId);
+    }
+
+    /**
+     * 관리자 재고 변경 - 값을 덮어쓰지 않고 변경량만 반영해 동시에 커밋된 주문 차감을 유지
+     * - baseQuantity(수정 화면을 열 때의 재고)가 있으면 quantity - baseQuantity, 없으면 현재 재고 기준
+     * - 재고 장부 사용 시 이 상품의 미반영 저널을 같은 트랜잭션에서 먼저 반영한 뒤 조정하고, 메모리 장부에도 같은 변경량만 반영
+     *   (장부를 다시 적재하지 않음 - 아직 커밋되지 않은 주문 예약분이 장부에만 있으므로)
+     * - 재고를 줄일 때는 장부에서 가져올 수 있는 만큼만 줄임 (진행 중인 주문 예약분까지 빼면 커밋 후 DB 재고가 음수가 됨)
+     * @return 조정 후 재고
+     */
+    public int adjustByAdmin(int productId, Integer baseQuantity, int quantity) {
+        if (quantity < 0) {
+            throw new ServiceException(ErrorCode.PRODUCT_UPDATE_FAILED);
+        }
+
+        if (stockLedger.isEnabled()) {
+            flushProductJournal(productId);
+        }
+
+        int current = productRepository.findQuantityById(productId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
+        int delta = quantity - (baseQuantity == null ? current : baseQuantity);
+        if (stockLedger.isEnabled()) {
+            delta = adjustLedger(productId, delta);
+        }
+        if (delta != 0) {
+            productRepository.adjustQuantity(productId, delta);
+            markStockChangedAfterCommit(productId);
+        }
+
+        return productRepository.findQuantityById(productId).orElse(current);
+    }
+
+    /**
+     * 저널에 쌓인 재고 증감을 product 테이블에 반영
+     * - 읽어 온 저널 삭제와 재고 반영을 한 트랜잭션으로 처리하므로 중간에 죽어도 중복/누락 없음
+     * - 다른 노드가 먼저 같은 저널을 반영했다면 삭제 건수가 달라지므로 롤백
+     * @return 반영한 저널 건수
+     */
+    public int flushJournal(int batchSize) {
+        List<StockJournal> journals = stockJournalRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        if (journals.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = journals.stream().map(StockJournal::getId).toList();
+        if (stockJournalRepository.deleteByIds(ids) != ids.size()) {
+            throw new IllegalStateException("이미 반영된 재고 저널이 포함되어 있습니다.");
+        }
+
+        // 상품별 순 증감량 (productId 오름차순으로 갱신)
+        Map<Integer, Integer> netDelta = new TreeMap<>();
+        for (StockJournal journal : journals) {
+            netDelta.merge(journal.getProductId(), journal.getDelta(), Integer::sum);
+        }
+
+        List<Object[]> args = netDelta.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE product SET quantity = quantity + ? WHERE product_id = ?", args);
+
+        return journals.size();
+    }
+
+    // 한 상품의 미반영 저널만 반영 (스케줄러가 먼저 가져갔다면 충돌로 보고 관리자 요청을 재시도)
+    private void flushProductJournal(int productId) {
+        List<StockJournal> journals = stockJournalRepository.findAllByProductIdOrderByIdAsc(productId);
+        if (journals.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = journals.stream().map(StockJournal::getId).toList();
+        if (stockJournalRepository.deleteByIds(ids) != ids.size()) {
+            throw new OptimisticLockingFailureException("재고 저널이 다른 요청에서 먼저 반영되었습니다.");
+        }
+
+        int delta = journals.stream().mapToInt(StockJournal::getDelta).sum();
+        if (delta != 0) {
+            jdbcTemplate.update("UPDATE product SET quantity = quantity + ? WHERE product_id = ?", delta, productId);
+        }
+    }
+
+    // 관리자 변경량을 장부에 반영하고 DB 에 적용할 변경량 반환 (감소는 예약처럼 먼저 가져오고 롤백 시 돌려놓음)
+    private int adjustLedger(int productId, int delta) {
+        if (delta > 0) {
+            afterCompletion(status -> {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    stockLedger.release(productId, delta);
+                }
+            });
+            return delta;
+        }
+        if (delta < 0) {
+            int taken = stockLedger.reserveUpTo(productId, -delta, () -> loadAvailable(productId));
+            afterCompletion(status -> {
+                if (status != TransactionSynchronization.STATUS_COMMITTED) {
+                    stockLedger.release(productId, taken);
+                }
+            });
+            return -taken;
+        }
+        return 0;
+    }
+
+    private void reserveInLedger(int productId, int quantity) {
+        if (!stockLedger.tryReserve(productId, quantity, () -> loadAvailable(productId))) {
+            throw new ServiceException(ErrorCode.ORDER_PRODUCT_STOCK_SHORTAGE);
+        }
+
+        // 주문 트랜잭션이 롤백되면 예약 해제
+        afterCompletion(status -> {
+            if (status != TransactionSynchronization.STATUS_COMMITTED) {
+                stockLedger.release(productId, quantity);
+            } else {
+                productCatalogue.markStockChanged(productId);
+            }
+        });
+
+        stockJournalRepository.save(new StockJournal(productId, -quantity));
+    }
+
+    // DB 재고 + 아직 반영되지 않은 저널 합계
+    private int loadAvailable(int productId) {
+        int quantity = productRepository.findQuantityById(productId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.PRODUCT_NOT_FOUND));
+        return (int) (quantity + stockJournalRepository.sumDeltaByProductId(productId));
+    }
+
+    // 카탈로그 스냅샷의 재고 임계값 확인 대상으로 표시
+    private void markStockChangedAfterCommit(int productId) {
+        afterCompletion(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                productCatalogue.markStockChanged(productId);
+            }
+        });
+    }
+
+    private void afterCompletion(IntConsumer callback) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status);
+            }
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.product.entity.Product;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntSupplier;
+
+/**
+ * 상품별 가용 재고를 메모리에 들고 있는 재고 장부
+ * - 상품마다 여러 칸(stripe)으로 나눈 원자적 카운터를 두어 인기 상품에 주문이 몰려도 CAS 경합을 분산
+ * - 락 없이 예약/해제하며, DB 반영은 StockJournal + StockLedgerScheduler 가 모아서 처리
+ * - custom.stock.ledger.enabled=false 이면 사용하지 않고 DB 조건부 UPDATE 로 바로 차감
+ * - 장부는 노드 메모리에 있으므로 여러 인스턴스가 같은 상품을 판매하는 환경에서는 끄고 사용
+ */
+@Component
+public class StockLedger {
+
+    private static final int MAX_STRIPES = 32;
+
+    @Getter
+    @Value("${custom.stock.ledger.enabled:false}")
+    private boolean enabled;
+
+    private final int stripes = stripeCount();
+    private final ConcurrentHashMap<Integer, StripedCounter> counters = new ConcurrentHashMap<>();
+
+    // 재고 예약 - 카운터가 없으면 loader 로 DB 값을 읽어 적재
+    public boolean tryReserve(int productId, int quantity, IntSupplier loader) {
+        StripedCounter counter = counters.get(productId);
+        if (counter == null) {
+            // DB 조회는 맵 락 밖에서 (computeIfAbsent 안에서 I/O 하면 가상 스레드가 캐리어에 고정됨)
+            int initial = loader.getAsInt();
+            counter = counters.computeIfAbsent(productId, id -> new StripedCounter(stripes, initial));
+        }
+        return counter.tryAcquire(quantity);
+    }
+
+    // 최대 quantity 만큼 예약하고 실제 예약한 수량 반환 (관리자 재고 감소 - 진행 중인 주문 예약분은 건드리지 않음)
+    public int reserveUpTo(int productId, int quantity, IntSupplier loader) {
+        StripedCounter counter = counters.get(productId);
+        if (counter == null) {
+            int initial = loader.getAsInt();
+            counter = counters.computeIfAbsent(productId, id -> new StripedCounter(stripes, initial));
+        }
+        return counter.acquireUpTo(quantity);
+    }
+
+    // 예약 해제 / 재고 복원 - 카운터가 없으면 다음 적재 시 DB 값에 이미 포함되어 있으므로 무시
+    public void release(int productId, int quantity) {
+        StripedCounter counter = counters.get(productId);
+        if (counter != null) {
+            counter.release(quantity);
+        }
+    }
+
+    // 전체 상품 재고 적재 (기동 시 저널 반영 후 호출)
+    public void seed(List<Product> products) {
+        counters.clear();
+        for (Product product : products) {
+            counters.put(product.getProductId(), new StripedCounter(stripes, product.getQuantity()));
+        }
+    }
+
+    public int available(int productId) {
+        StripedCounter counter = counters.get(productId);
+        return counter == null ? -1 : counter.sum();
+    }
+
+    private static int stripeCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors - 1) << 1));
+    }
+
+    /**
+     * 여러 칸으로 나눈 재고 카운터
+     * - 스레드마다 기본 칸을 정해 두고, 부족하면 다른 칸에서 CAS 로 가져옴
+     * - 전체 합이 모자라면 가져온 만큼 돌려놓고 실패
+     */
+    static final class StripedCounter {
+
+        private static final int PAD = 16; // 칸 사이 64바이트 간격 (false sharing 방지)
+
+        private final int stripes;
+        private final AtomicIntegerArray cells;
+
+        StripedCounter(int stripes, int initial) {
+            this.stripes = stripes;
+            this.cells = new AtomicIntegerArray(stripes * PAD);
+
+            int total = Math.max(initial, 0);
+            for (int i = 0; i < stripes; i++) {
+                cells.set(i * PAD, total / stripes + (i < total % stripes ? 1 : 0));
+            }
+        }
+
+        boolean tryAcquire(int amount) {
+            int taken = acquireUpTo(amount);
+            if (taken < amount) {
+                if (taken > 0) release(taken);
+                return false;
+            }
+            return true;
+        }
+
+        // 가능한 만큼만 가져오고 가져온 양 반환
+        int acquireUpTo(int amount) {
+            int home = homeStripe();
+            int taken = 0;
+
+            for (int i = 0; i < stripes && taken < amount; i++) {
+                int idx = ((home + i) & (stripes - 1)) * PAD;
+                while (true) {
+                    int current = cells.get(idx);
+                    if (current <= 0) break;
+
+                    int grab = Math.min(current, amount - taken);
+                    if (cells.compareAndSet(idx, current, current - grab)) {
+                        taken += grab;
+                        break;
+                    }
+                }
+            }
+            return taken;
+        }
+
+        void release(int amount) {
+            cells.addAndGet(homeStripe() * PAD, amount);
+        }
+
+        int sum() {
+            int sum = 0;
+            for (int i = 0; i < stripes; i++) sum += cells.get(i * PAD);
+            return sum;
+        }
+
+        private int homeStripe() {
+            long id = Thread.currentThread().threadId();
+            return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (stripes - 1);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.backend.global.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(@Version 불일치) 시 메서드 전체를 다시 실행
+ * - 트랜잭션 바깥에서 호출된 경우에만 재시도 (이미 진행 중인 트랜잭션 안이면 그대로 예외 전파)
+ * - 재시도마다 새 트랜잭션에서 엔티티를 다시 읽으므로, 메서드는 엔티티 대신 id 를 인자로 받아야 함
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,94 @@
+package com.backend.global.aspect;
+
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnConflict 처리
+ * - @Transactional 보다 바깥에서 실행되도록 가장 높은 우선순위 (재시도마다 트랜잭션을 새로 시작)
+ * - 대기 시간은 min(maxBackoffMs, baseBackoffMs * 2^재시도) 범위의 무작위 값 (동시에 충돌한 요청이 다시 부딪히지 않도록)
+ * - 재시도 후에도 충돌하면 409 (CONCURRENT_MODIFICATION)
+ * - 메트릭
+ *   optimistic.lock.calls{operation}       : 호출 수
+ *   optimistic.lock.conflicts{entity, id}  : 충돌 수 (상품은 상품 id 별, 그 외 엔티티는 id = *)
+ *   optimistic.lock.retries{operation}     : 재시도 수
+ *   optimistic.lock.exhausted{operation}   : 재시도 후에도 실패한 수
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class RetryOnConflictAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.retry.optimistic.maxAttempts:3}")
+    private int maxAttempts;
+    @Value("${custom.retry.optimistic.baseBackoffMs:20}")
+    private long baseBackoffMs;
+    @Value("${custom.retry.optimistic.maxBackoffMs:200}")
+    private long maxBackoffMs;
+
+    @Around("@annotation(com.backend.global.aspect.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 바깥 트랜잭션에 참여한 호출은 다시 실행해도 같은 영속성 컨텍스트를 보므로 재시도하지 않음
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        meterRegistry.counter("optimistic.lock.calls", "operation", operation).increment();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                recordConflict(e);
+
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.lock.exhausted", "operation", operation).increment();
+                    log.warn("낙관적 락 충돌 재시도 초과 - {} ({}회)", operation, attempt);
+                    throw new ServiceException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+
+                meterRegistry.counter("optimistic.lock.retries", "operation", operation).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void recordConflict(OptimisticLockingFailureException e) {
+        String entity = "unknown";
+        String id = "*";
+        if (e instanceof ObjectOptimisticLockingFailureException ex && ex.getPersistentClassName() != null) {
+            String className = ex.getPersistentClassName();
+            entity = className.substring(className.lastIndexOf('.') + 1);
+            // 주문 id 는 개수가 계속 늘어나므로 태그로 쓰지 않음
+            if ("Product".equals(entity) && ex.getIdentifier() != null) {
+                id = String.valueOf(ex.getIdentifier());
+            }
+        }
+        meterRegistry.counter("optimistic.lock.conflicts", "entity", entity, "id", id).increment();
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt, 16));
+        Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
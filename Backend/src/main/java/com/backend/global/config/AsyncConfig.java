@@ -0,0 +1,14 @@
+package com.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화
+ * - 실행기는 Spring Boot 의 applicationTaskExecutor 를 사용
+ * - spring.threads.virtual.enabled=true 이면 가상 스레드 실행기(동시 실행 수는 spring.task.execution.simple.concurrency-limit)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,117 @@
+package com.backend.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+ * - Tomcat 요청 처리, @Scheduled, @Async 는 Spring Boot 가 가상 스레드로 전환
+ * - 가상 스레드는 사실상 무제한이므로 커넥션 풀 크기만큼만 동시에 커넥션을 얻도록 DataSource 앞에 세마포어를 둠
+ *   (수천 개의 가상 스레드가 Hikari 대기열에 몰려 connectionTimeout 으로 한꺼번에 실패하는 것을 방지)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimiterPostProcessor(Environment env) {
+        int permits = env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        long timeoutMs = env.getProperty("custom.virtualThreads.connectionWaitMs", Long.class, 3000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    log.info("가상 스레드 모드: DataSource 동시 커넥션 제한 {}개", permits);
+                    return new ConnectionLimitingDataSource(dataSource, permits, timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 동시에 빌려 갈 수 있는 커넥션 수를 공정 세마포어로 제한
+     * - 커넥션을 close 하면 허가 반환
+     */
+    static class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+        private final Semaphore permits;
+        private final long timeoutMs;
+
+        ConnectionLimitingDataSource(DataSource target, int permits, long timeoutMs) {
+            super(target);
+            this.permits = new Semaphore(permits, true);
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return releasing(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return releasing(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException("DB 커넥션 대기 시간 초과 (%dms)".formatted(timeoutMs));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트", e);
+            }
+        }
+
+        private Connection releasing(Connection target) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+            );
+        }
+    }
+}
@@ -22,6 +22,19 @@ public enum ErrorCode {
     ORDER_ALREADY_CANCELLED(2006, HttpStatus.CONFLICT, "이미 취소된 주문입니다."),
     ORDER_NOT_MODIFIABLE(2007, HttpStatus.FORBIDDEN, "확정된 주문은 수정/취소할 수 없습니다."),
     ORDER_LIST_EMPTY(2008, HttpStatus.NOT_FOUND, "해당 이메일의 주문이 없습니다."),
+    ORDER_IDEMPOTENCY_KEY_INVALID(2009, HttpStatus.BAD_REQUEST, "Idempotency-Key 형식이 올바르지 않습니다."),
+    ORDER_IDEMPOTENCY_KEY_REUSED(2010, HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 주문 요청에 사용된 Idempotency-Key 입니다."),
+    ORDER_IDEMPOTENCY_IN_PROGRESS(2011, HttpStatus.CONFLICT, "같은 Idempotency-Key 로 처리 중인 주문이 있습니다."),
+    ORDER_INTAKE_BUSY(2012, HttpStatus.SERVICE_UNAVAILABLE, "주문이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+    ORDER_QUEUE_FULL(2013, HttpStatus.TOO_MANY_REQUESTS, "주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+    ORDER_TICKET_NOT_FOUND(2014, HttpStatus.NOT_FOUND, "주문 접수 내역이 없거나 만료되었습니다."),
+    ORDER_INVALID_CURSOR(2015, HttpStatus.BAD_REQUEST, "주문 목록 커서가 올바르지 않습니다."),
+    ORDER_INVALID_SORT(2016, HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다."),
+    ORDER_INVALID_EXPORT_FORMAT(2017, HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (csv, ndjson)"),
+    ORDER_INVALID_STATUS_TRANSITION(2018, HttpStatus.BAD_REQUEST, "변경할 수 없는 주문 상태입니다."),
+    ORDER_STATUS_TRANSITION_EMPTY(2019, HttpStatus.BAD_REQUEST, "상태를 변경할 주문 id 목록 또는 필터가 필요합니다."),
+    ORDER_STATUS_TRANSITION_TOO_MANY(2020, HttpStatus.BAD_REQUEST, "한 번에 상태를 변경할 수 있는 주문 수를 초과했습니다."),
+    ORDER_STATUS_UNKNOWN(2021, HttpStatus.GATEWAY_TIMEOUT, "주문 처리 결과를 확인하지 못했습니다. 주문 내역을 확인한 뒤 다시 시도해 주세요."),
 
     // Admin 도메인_3000번대
     ADMIN_NOT_FOUND(3001, HttpStatus.NOT_FOUND, "존재하지 않는 아이디입니다."),
@@ -29,10 +42,19 @@ public enum ErrorCode {
     ADMIN_USERNAME_DUPLICATED(3003, HttpStatus.CONFLICT, "이미 사용 중인 아이디입니다."),
     ACCESS_TOKEN_NOT_FOUND(3004, HttpStatus.UNAUTHORIZED, "액세스 토큰이 없습니다."),
     ACCESS_TOKEN_INVALID(3005, HttpStatus.UNAUTHORIZED, "액세스 토큰이 유효하지 않습니다."),
-    USER_NOT_FOUND(3006, HttpStatus.NOT_FOUND, "사용자 정보를 찾을 수 없습니다.");
+    USER_NOT_FOUND(3006, HttpStatus.NOT_FOUND, "사용자 정보를 찾을 수 없습니다."),
+    ADMIN_LOGIN_THROTTLED(3007, HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    ADMIN_LOGIN_BUSY(3008, HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+    REFRESH_TOKEN_NOT_FOUND(3009, HttpStatus.UNAUTHORIZED, "리프레시 토큰이 없습니다."),
+    REFRESH_TOKEN_INVALID(3010, HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다. 다시 로그인해 주세요."),
+    REFRESH_TOKEN_REUSED(3011, HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요."),
+    SHIPMENT_REBUILD_IN_PROGRESS(3012, HttpStatus.CONFLICT, "같은 출고일 합배송 묶음을 생성 중입니다. 잠시 후 다시 시도해 주세요."),
+    REFRESH_TOKEN_ROTATING(3013, HttpStatus.CONFLICT, "다른 요청에서 토큰을 재발급했습니다. 다시 시도해 주세요."),
 
 
     // 공통 4000번대
+    CONCURRENT_MODIFICATION(4001, HttpStatus.CONFLICT, "다른 요청에서 먼저 수정되었습니다. 다시 시도해 주세요."),
+    TOO_MANY_REQUESTS(4002, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final int code;
     private final HttpStatus status;
@@ -0,0 +1,87 @@
+package com.backend.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 테이블로 에뮬레이션한 시퀀스(MySQL)를 기존 데이터의 최대 ID 위로 올림
+ *
+ * - IDENTITY 에서 시퀀스로 바꾼 뒤 ddl-auto update 로 만든 시퀀스 테이블은 1부터 시작하므로
+ *   그대로 두면 첫 주문부터 기존 ID 와 겹쳐 PK 중복이 남
+ * - 웹 서버/스케줄러가 시작되기 전(싱글톤 생성 직후)에 실행하고, 실패하면 기동을 중단
+ * - 시퀀스를 올리기만 하므로 여러 노드가 동시에 실행해도 안전
+ * - 네이티브 시퀀스를 쓰는 DB(H2 등)에는 시퀀스 테이블이 없으므로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceInitData implements SmartInitializingSingleton {
+
+    // allocationSize 는 엔티티의 @SequenceGenerator 와 맞춤
+    private static final List<Sequence> SEQUENCES = List.of(
+            new Sequence("orders_seq", "orders", "order_id", 50),
+            new Sequence("orders_detail_seq", "orders_detail", "order_detail_id", 50)
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Sequence sequence : SEQUENCES) {
+            if (isSequenceTable(sequence.name())) {
+                seed(sequence);
+            }
+        }
+    }
+
+    private void seed(Sequence sequence) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + sequence.idColumn() + "), 0) FROM " + sequence.table(), Long.class);
+        // pooled 최적화기는 읽은 값의 allocationSize 만큼 아래부터 ID 를 쓰므로 그만큼 더 올림
+        long nextVal = maxId + sequence.allocationSize() + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + sequence.name() + " SET next_val = ? WHERE next_val < ?", nextVal, nextVal);
+        if (updated == 0) {
+            Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + sequence.name(), Integer.class);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update("INSERT INTO " + sequence.name() + " (next_val) VALUES (?)", nextVal);
+                updated = 1;
+            }
+        }
+        if (updated > 0) {
+            log.info("시퀀스 {} 를 {} 로 올림 ({}.{} 최대값 {})",
+                    sequence.name(), nextVal, sequence.table(), sequence.idColumn(), maxId);
+        }
+    }
+
+    private boolean isSequenceTable(String name) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("시퀀스 테이블 확인 실패: " + name, e);
+        } finally {
+            JdbcUtils.closeConnection(connection);
+        }
+    }
+
+    private record Sequence(String name, String table, String idColumn, int allocationSize) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.backend.global.rq;
 
 import com.backend.domain.admin.auth.entity.Admin;
-import com.backend.domain.admin.auth.service.AdminAuthService;
+import com.backend.domain.admin.auth.service.AdminPrincipalCache;
 import com.backend.global.security.SecurityUser;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +18,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class Rq {
 
-    private final AdminAuthService adminAuthService;
+    private final AdminPrincipalCache adminPrincipalCache;
     private final HttpServletRequest request;
     private final HttpServletResponse response;
 
@@ -28,9 +28,12 @@ public class Rq {
             return null;
         }
         SecurityUser principal = (SecurityUser) authentication.getPrincipal();
-        int id = principal.getId();
-        String username = principal.getUsername();
-        return adminAuthService.findByUsername(username).orElse(null);
+        return adminPrincipalCache.findById(principal.getId()).orElse(null);
+    }
+
+    // 접속 IP (신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)를 거친 요청은 X-Forwarded-For 의 클라이언트 IP)
+    public String getClientIp() {
+        return request.getRemoteAddr();
     }
 
     public void setHeader(String name, String value) {
@@ -59,6 +62,11 @@ public class Rq {
     }
 
     public void setCookie(String name, String value) {
+        setCookie(name, value, -1);
+    }
+
+    // maxAgeSeconds < 0 이면 브라우저 종료 시 삭제되는 세션 쿠키
+    public void setCookie(String name, String value, long maxAgeSeconds) {
         if (value == null) value = "";
 
         Cookie cookie = new Cookie(name, value);
@@ -71,6 +79,8 @@ public class Rq {
 
         if (value.isBlank()) {
             cookie.setMaxAge(0);
+        } else if (maxAgeSeconds >= 0) {
+            cookie.setMaxAge((int) Math.min(maxAgeSeconds, Integer.MAX_VALUE));
         }
 
         response.addCookie(cookie);
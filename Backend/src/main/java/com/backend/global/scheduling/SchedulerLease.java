@@ -0,0 +1,48 @@
+package com.backend.global.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업별 실행 권한(lease) 과 마지막 실행 기록
+ * - 작업마다 한 행, 조건부 UPDATE 로 lease 를 가져간 노드만 작업을 실행
+ * - fencingToken 은 lease 를 가져갈 때마다 1씩 증가 (이전 보유자의 늦은 쓰기를 막는 데 사용)
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(length = 200)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+
+    @Column(name = "last_result", length = 500)
+    private String lastResult;
+
+    public SchedulerLease(String jobName) {
+        this.jobName = jobName;
+    }
+}
@@ -0,0 +1,60 @@
+package com.backend.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 비어 있거나 만료된 lease 만 가져감 (영향받은 행 수 0 = 다른 노드가 보유 중)
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLease l
+            SET l.owner = :owner, l.fencingToken = l.fencingToken + 1, l.leaseUntil = :leaseUntil, l.lastStartedAt = :now
+            WHERE l.jobName = :jobName AND (l.leaseUntil IS NULL OR l.leaseUntil < :now)
+            """)
+    int acquire(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Query("SELECT l.fencingToken FROM SchedulerLease l WHERE l.jobName = :jobName AND l.owner = :owner")
+    Optional<Long> findFencingToken(@Param("jobName") String jobName, @Param("owner") String owner);
+
+    // 아직 같은 토큰으로 보유 중일 때만 연장 (영향받은 행 수 0 = lease 를 잃음)
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLease l SET l.leaseUntil = :leaseUntil
+            WHERE l.jobName = :jobName AND l.owner = :owner AND l.fencingToken = :token
+            """)
+    int renew(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("token") long token,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    // 반납 - holdUntil 까지는 비어 있어도 다른 노드가 가져가지 못함 (null 이면 바로 가져갈 수 있음)
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLease l
+            SET l.owner = NULL, l.leaseUntil = :holdUntil, l.lastFinishedAt = :now, l.lastResult = :result
+            WHERE l.jobName = :jobName AND l.owner = :owner AND l.fencingToken = :token
+            """)
+    int release(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("token") long token,
+            @Param("now") LocalDateTime now,
+            @Param("holdUntil") LocalDateTime holdUntil,
+            @Param("result") String result
+    );
+}
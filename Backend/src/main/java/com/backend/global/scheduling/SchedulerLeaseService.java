@@ -0,0 +1,144 @@
+package com.backend.global.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 여러 인스턴스 중 한 노드만 스케줄 작업을 실행하도록 하는 DB lease
+ * - scheduler_lease 행을 조건부 UPDATE 로 가져간 노드만 실행하고, 끝나면 결과와 함께 반납
+ * - 보유 노드가 죽으면 leaseUntil 이 지난 뒤 다른 노드가 가져감
+ * - 작업이 빨리 끝나도 시작 후 minHoldSeconds 까지는 lease 를 비우지 않음
+ *   (같은 cron 이 조금 늦게 울린 다른 노드가 같은 회차를 다시 실행하지 않도록)
+ * - 오래 걸리는 작업은 커밋 단위마다 assertHeld 로 lease 를 연장/확인 (fencing token 이 바뀌었으면 중단)
+ * - 만료 판단은 각 노드의 시계를 사용하므로 노드 간 시간 동기화(NTP)가 전제
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLeaseService {
+
+    private static final int MAX_RESULT_LENGTH = 500;
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 프로세스(pid@host) + 기동마다 다른 값 - 재시작한 같은 노드도 다른 보유자로 취급
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${custom.scheduler.lease.ttlSeconds:300}")
+    private long ttlSeconds;
+    @Value("${custom.scheduler.lease.minHoldSeconds:60}")
+    private long minHoldSeconds;
+
+    public record Lease(String jobName, String owner, long token, LocalDateTime acquiredAt) {}
+
+    public static class LeaseLostException extends RuntimeException {
+        public LeaseLostException(Lease lease) {
+            super("스케줄 작업 lease 를 잃었습니다. (job: %s, token: %d)".formatted(lease.jobName(), lease.token()));
+        }
+    }
+
+    /**
+     * lease 를 가져온 경우에만 job 을 실행하고 결과를 기록
+     * @return 이 노드에서 실행했으면 true
+     */
+    public boolean runExclusively(String jobName, Function<Lease, String> job) {
+        Optional<Lease> acquired = tryAcquire(jobName);
+        if (acquired.isEmpty()) {
+            log.debug("다른 노드가 실행 중이므로 건너뜀 - {}", jobName);
+            return false;
+        }
+
+        Lease lease = acquired.get();
+        String result;
+        try {
+            result = job.apply(lease);
+        } catch (LeaseLostException e) {
+            log.warn(e.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("스케줄 작업 실패 - {}", jobName, e);
+            result = "FAILED: " + e.getMessage();
+        }
+
+        release(lease, result);
+        return true;
+    }
+
+    public Optional<Lease> tryAcquire(String jobName) {
+        ensureRow(jobName);
+
+        LocalDateTime now = LocalDateTime.now();
+        return requiresNew().execute(status -> {
+            if (schedulerLeaseRepository.acquire(jobName, owner, now, now.plusSeconds(ttlSeconds)) == 0) {
+                return Optional.<Lease>empty();
+            }
+            return schedulerLeaseRepository.findFencingToken(jobName, owner)
+                    .map(token -> new Lease(jobName, owner, token, now));
+        });
+    }
+
+    /**
+     * 아직 lease 를 보유 중인지 확인하고 만료 시각을 연장
+     * - 작업의 쓰기 트랜잭션 안에서 호출하면 lease 행 락이 함께 잡혀, 다른 노드가 가져간 뒤에는 쓰기가 커밋되지 않음
+     */
+    public void assertHeld(Lease lease) {
+        int renewed = new TransactionTemplate(transactionManager).execute(status ->
+                schedulerLeaseRepository.renew(lease.jobName(), lease.owner(), lease.token(),
+                        LocalDateTime.now().plusSeconds(ttlSeconds)));
+        if (renewed == 0) {
+            throw new LeaseLostException(lease);
+        }
+    }
+
+    public void release(Lease lease, String result) {
+        release(lease, result, true);
+    }
+
+    /**
+     * @param hold false 면 최소 보유 시간 없이 바로 반납 (cron 이 아닌 요청에서 잡은 lease)
+     */
+    public void release(Lease lease, String result, boolean hold) {
+        String lastResult = result != null && result.length() > MAX_RESULT_LENGTH
+                ? result.substring(0, MAX_RESULT_LENGTH)
+                : result;
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minHoldUntil = lease.acquiredAt().plusSeconds(minHoldSeconds);
+        LocalDateTime holdUntil = hold && minHoldUntil.isAfter(now) ? minHoldUntil : null;
+
+        requiresNew().executeWithoutResult(status ->
+                schedulerLeaseRepository.release(lease.jobName(), lease.owner(), lease.token(), now, holdUntil, lastResult));
+    }
+
+    // 작업 행이 없으면 생성 (여러 노드가 동시에 만들면 한 곳만 성공)
+    private void ensureRow(String jobName) {
+        if (schedulerLeaseRepository.existsById(jobName)) {
+            return;
+        }
+        try {
+            requiresNew().executeWithoutResult(status ->
+                    schedulerLeaseRepository.saveAndFlush(new SchedulerLease(jobName)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 생성함
+        }
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
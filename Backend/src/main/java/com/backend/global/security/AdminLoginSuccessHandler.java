@@ -0,0 +1,33 @@
+package com.backend.global.security;
+
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService;
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService.IssuedTokens;
+import com.backend.global.rq.Rq;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 폼 로그인 성공 - 세션 대신 액세스/리프레시 토큰 쿠키를 발급하고 대시보드로 이동
+@Component
+@RequiredArgsConstructor
+public class AdminLoginSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final AdminRefreshTokenService adminRefreshTokenService;
+    private final Rq rq;
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException {
+        SecurityUser user = (SecurityUser) authentication.getPrincipal();
+        IssuedTokens tokens = adminRefreshTokenService.issue(user.getId(), user.getUsername());
+
+        rq.setCookie("accessToken", tokens.accessToken());
+        rq.setCookie("refreshToken", tokens.refreshToken(), adminRefreshTokenService.getExpireSeconds());
+        response.sendRedirect("/admin/dashboard");
+    }
+}
@@ -0,0 +1,125 @@
+package com.backend.global.security;
+
+import com.backend.global.exception.ErrorCode;
+import com.backend.standard.ratelimit.TokenBucketRegistry;
+import com.backend.standard.ratelimit.TokenBucketRegistry.Decision;
+import com.backend.standard.ratelimit.TokenBucketRegistry.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 공개 주문 API 요청 수 제한 (클라이언트 IP 별 토큰 버킷)
+ * - 경로 묶음(route)마다 한도를 따로 설정: 주문 생성 / 주문 수정·취소 / 주문 조회
+ * - 클라이언트 IP 는 getRemoteAddr (신뢰하는 프록시 뒤에서는 Tomcat RemoteIpValve 가 X-Forwarded-For 로 교체)
+ * - 한도를 넘으면 컨트롤러/DB 까지 가지 않고 429 + Retry-After
+ * - 메트릭: http.ratelimit.requests{route, outcome=allowed|throttled}
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ORDERS_PATH = "/api/v1/orders";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.rateLimit.enabled:true}")
+    private boolean enabled;
+    @Value("${custom.rateLimit.maxKeys:100000}")
+    private int maxKeys;
+    @Value("${custom.rateLimit.idleSeconds:600}")
+    private long idleSeconds;
+
+    @Value("${custom.rateLimit.orders.create.capacity:10}")
+    private int createCapacity;
+    @Value("${custom.rateLimit.orders.create.refillPerSecond:2}")
+    private double createRefillPerSecond;
+    @Value("${custom.rateLimit.orders.modify.capacity:10}")
+    private int modifyCapacity;
+    @Value("${custom.rateLimit.orders.modify.refillPerSecond:1}")
+    private double modifyRefillPerSecond;
+    @Value("${custom.rateLimit.orders.read.capacity:60}")
+    private int readCapacity;
+    @Value("${custom.rateLimit.orders.read.refillPerSecond:20}")
+    private double readRefillPerSecond;
+
+    private TokenBucketRegistry buckets;
+    private Map<String, Route> routes;
+
+    private record Route(Limit limit, Counter allowed, Counter throttled) {}
+
+    @PostConstruct
+    void init() {
+        buckets = new TokenBucketRegistry(64, maxKeys, Duration.ofSeconds(idleSeconds));
+        routes = Map.of(
+                "orders.create", route("orders.create", new Limit(createCapacity, createRefillPerSecond)),
+                "orders.modify", route("orders.modify", new Limit(modifyCapacity, modifyRefillPerSecond)),
+                "orders.read", route("orders.read", new Limit(readCapacity, readRefillPerSecond))
+        );
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        String routeName = routeOf(request.getMethod());
+        if (routeName == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Route route = routes.get(routeName);
+        Decision decision = buckets.tryAcquire(routeName + ":" + request.getRemoteAddr(), route.limit());
+        if (decision.allowed()) {
+            route.allowed().increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        route.throttled().increment();
+        ErrorCode ec = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(ec.getStatus().value());
+        response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("""
+                {"resultCode":"%d","msg":"%s"}
+                """.formatted(ec.getCode(), ec.getMessage()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || !(uri.equals(ORDERS_PATH) || uri.startsWith(ORDERS_PATH + "/"));
+    }
+
+    private static String routeOf(String method) {
+        return switch (method) {
+            case "POST" -> "orders.create";
+            case "PUT", "DELETE" -> "orders.modify";
+            case "GET" -> "orders.read";
+            default -> null; // OPTIONS(CORS preflight) 등은 제한하지 않음
+        };
+    }
+
+    private Route route(String name, Limit limit) {
+        return new Route(
+                limit,
+                meterRegistry.counter("http.ratelimit.requests", "route", name, "outcome", "allowed"),
+                meterRegistry.counter("http.ratelimit.requests", "route", name, "outcome", "throttled")
+        );
+    }
+}
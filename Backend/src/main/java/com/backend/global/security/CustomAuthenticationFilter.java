@@ -1,140 +1,110 @@
 package com.backend.global.security;
 
-import com.backend.domain.admin.auth.entity.Admin;
-import com.backend.domain.admin.auth.service.AdminAuthService;
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService;
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService.IssuedTokens;
 import com.backend.domain.admin.auth.service.AuthTokenService;
-import com.backend.global.exception.ServiceException;
 import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
 import com.backend.global.rq.Rq;
-import com.backend.global.rsData.RsData;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.lang.NonNull;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * JWT 인증 (세션 없음)
+ * - 액세스 토큰(Authorization: Bearer 또는 accessToken 쿠키)의 payload 로 SecurityUser 를 만들어 인증 (DB 조회 없음)
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 통과하고, 접근 허용 여부는 SecurityConfig 의 경로 규칙이 판단
+ * - 관리자 페이지(GET /admin/**)는 액세스 토큰이 만료되었으면 refreshToken 쿠키로 바로 재발급
+ *   (API 는 401 을 받은 뒤 POST /api/v1/admin/token/refresh 로 재발급)
+ */
 @Component
 @RequiredArgsConstructor
 public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
-    private final AdminAuthService adminAuthService;
+    // 토큰이 있었지만 유효하지 않았음을 인증 실패 응답에서 구분하기 위한 요청 속성
+    public static final String ACCESS_TOKEN_INVALID_ATTRIBUTE = CustomAuthenticationFilter.class.getName() + ".ACCESS_TOKEN_INVALID";
+
     private final AuthTokenService authTokenService;
+    private final AdminRefreshTokenService adminRefreshTokenService;
     private final Rq rq;
 
     @Override
-protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
-        throws ServletException, IOException {
-
-    String uri = request.getRequestURI();
-    String method = request.getMethod();
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        String token = rq.getHeader("Authorization", "");
+        if (token.startsWith("Bearer ")) token = token.substring(7);
+        if (token.isBlank()) token = rq.getCookieValue("accessToken", "");
 
-    // 디버깅용 로그
-    System.out.println("CustomAuthenticationFilter - URI: " + uri + ", Method: " + method);
+        SecurityUser user = token.isBlank() ? null : toSecurityUser(authTokenService.getPayloadOrNull(token));
+        if (user == null && !token.isBlank()) {
+            request.setAttribute(ACCESS_TOKEN_INVALID_ATTRIBUTE, true);
+        }
 
-    // 1) 보호 경로만 인증 강제 (예: 관리자 전용)
-    boolean isProtected =
-            (uri.startsWith("/api/v1/admin/") && !uri.startsWith("/api/v1/admin/orders") && !uri.startsWith("/api/v1/admin/products")) ||  // 관리자 API (주문/상품 제외)
-            uri.startsWith("/admin/");           // Thymeleaf 관리자 페이지
+        if (user == null && "GET".equals(request.getMethod()) && request.getRequestURI().startsWith("/admin/")) {
+            user = refreshForPage();
+        }
 
-    System.out.println("CustomAuthenticationFilter - isProtected: " + isProtected);
+        if (user != null) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+            SecurityContextHolder.setContext(context);
+        }
 
-    // 보호 경로가 아니면 그대로 통과(permitAll 경로 포함)
-    if (!isProtected) {
-        System.out.println("CustomAuthenticationFilter - 허용된 경로, 통과");
         chain.doFilter(request, response);
-        return;
-    }
-
-
-
-    // 2) 보호 경로라면 토큰을 읽어서 있으면 검증, 없으면 401
-    String token = rq.getHeader("Authorization", "");
-    if (token.startsWith("Bearer ")) token = token.substring(7);
-    if (token.isBlank()) token = rq.getCookieValue("accessToken", "");
-
-    if (token.isBlank()) { // 🔴 기존: 모든 경로에서 401 → 변경: 보호 경로에서만 401
-        throw new ServiceException(ErrorCode.ACCESS_TOKEN_NOT_FOUND);
     }
 
-    Map<String, Object> payload = authTokenService.getPayloadOrNull(token);
-    if (payload == null || !payload.containsKey("username") || !payload.containsKey("role")) {
-        throw new ServiceException(ErrorCode.ACCESS_TOKEN_INVALID);
-    }
-
-    // ...인증 컨텍스트 설정 그대로...
-    chain.doFilter(request, response);
-}
-
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String uri = request.getRequestURI();
-        // ✅ Thymeleaf/정적리소스 등은 필터 제외
-        return !uri.startsWith("/api/");
+        // 정적 리소스, 로그인 페이지 등은 필터 제외
+        return !uri.startsWith("/api/") && !uri.startsWith("/admin/");
     }
 
-    private void authenticate(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
-            throws ServletException, IOException {
-
-        // 0) 세션(폼 로그인) 인증이 이미 있으면 통과
-        Authentication existing = SecurityContextHolder.getContext().getAuthentication();
-        if (existing != null && existing.isAuthenticated() && !"anonymousUser".equals(existing.getPrincipal())) {
-            filterChain.doFilter(request, response);
-            return;
+    private SecurityUser refreshForPage() {
+        String refreshToken = rq.getCookieValue("refreshToken", "");
+        if (refreshToken.isBlank()) {
+            return null;
         }
 
-        // 1) 토큰 추출 (헤더 → 쿠키)
-        String token = rq.getHeader("Authorization", "");
-        if (token.startsWith("Bearer ")) token = token.substring(7);
-        if (token.isBlank()) token = rq.getCookieValue("accessToken", "");
-
-        // 2) 토큰이 **없으면** 여기서 끝! (예외 던지지 않음)
-        filterChain.doFilter(request, response);
-        if (true) return; // 가독성용, 아래는 '토큰 있을 때'만 실행
-
-        // 3) 토큰이 **있을 때만** 검증하고 컨텍스트 세팅 (잘못된 토큰만 401)
-        // (위 return을 제거하고 아래 코드 활성화하세요)
-    /*
-    if (token.isBlank()) {
-        filterChain.doFilter(request, response);
-        return;
-    }
-
-    Map<String, Object> payload = authTokenService.getPayloadOrNull(token);
-    if (payload == null || !payload.containsKey("username") || !payload.containsKey("role")) {
-        throw new ServiceException(ErrorCode.ACCESS_TOKEN_INVALID);
+        try {
+            IssuedTokens tokens = adminRefreshTokenService.rotate(refreshToken);
+            rq.setCookie("accessToken", tokens.accessToken());
+            rq.setCookie("refreshToken", tokens.refreshToken(), adminRefreshTokenService.getExpireSeconds());
+            return toSecurityUser(authTokenService.getPayloadOrNull(tokens.accessToken()));
+        } catch (ServiceException e) {
+            // 다른 노드의 동시 재발급 - 그 응답이 설정한 새 쿠키를 지우지 않도록 그대로 둠
+            if (e.getErrorCode() == ErrorCode.REFRESH_TOKEN_ROTATING) {
+                return null;
+            }
+            // 만료/재사용된 리프레시 토큰 → 쿠키 삭제 후 로그인 페이지로
+            rq.deleteCookie("accessToken");
+            rq.deleteCookie("refreshToken");
+            return null;
+        }
     }
 
-    String username = (String) payload.get("username");
-    String role = (String) payload.get("role");
-
-    Admin admin = adminAuthService.findByUsername(username)
-            .orElseThrow(() -> new ServiceException(ErrorCode.USER_NOT_FOUND));
-
-    UserDetails user = new SecurityUser(
-            admin.getId(),
-            admin.getUsername(),
-            admin.getPassword(),
-            List.of(new SimpleGrantedAuthority(role))
-    );
-
-    Authentication authentication = new UsernamePasswordAuthenticationToken(
-            user, user.getPassword(), user.getAuthorities()
-    );
-    SecurityContextHolder.getContext().setAuthentication(authentication);
-    filterChain.doFilter(request, response);
-    */
+    private static SecurityUser toSecurityUser(Map<String, Object> payload) {
+        if (payload == null) {
+            return null;
+        }
+        return new SecurityUser(
+                (int) payload.get("id"),
+                (String) payload.get("username"),
+                "",
+                List.of(new SimpleGrantedAuthority((String) payload.get("role")))
+        );
     }
 }
@@ -1,7 +1,7 @@
 package com.backend.global.security;
 
 import com.backend.domain.admin.auth.entity.Admin;
-import com.backend.domain.admin.auth.service.AdminAuthService;
+import com.backend.domain.admin.auth.service.AdminPrincipalCache;
 import com.backend.global.exception.ErrorCode;
 import com.backend.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
@@ -17,11 +17,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final AdminAuthService adminAuthService;
+    private final AdminPrincipalCache adminPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Admin admin = adminAuthService.findByUsername(username)
+        Admin admin = adminPrincipalCache.findByUsername(username)
                 .orElseThrow(() -> new ServiceException(ErrorCode.ADMIN_NOT_FOUND));
 
         return new SecurityUser(
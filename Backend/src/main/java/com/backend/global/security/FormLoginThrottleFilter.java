@@ -0,0 +1,40 @@
+package com.backend.global.security;
+
+import com.backend.domain.admin.auth.service.AdminLoginThrottle;
+import com.backend.standard.ratelimit.TokenBucketRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 폼 로그인(POST /login) 시도 제한 - 비밀번호 검증 전에 IP, 아이디별 토큰 버킷 확인
+@Component
+@RequiredArgsConstructor
+public class FormLoginThrottleFilter extends OncePerRequestFilter {
+
+    private final AdminLoginThrottle adminLoginThrottle;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        TokenBucketRegistry.Decision decision =
+                adminLoginThrottle.tryAcquire(request.getRemoteAddr(), request.getParameter("username"));
+        if (!decision.allowed()) {
+            response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+            response.sendRedirect("/login?error=throttled");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod()) && "/login".equals(request.getRequestURI()));
+    }
+}
@@ -1,16 +1,20 @@
 package com.backend.global.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class SecurityBeanConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt 는 전용 스레드 풀에서만 실행 (threads 0 이면 코어 수의 절반)
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${custom.security.passwordHash.threads:0}") int threads,
+            @Value("${custom.security.passwordHash.queueCapacity:32}") int queueCapacity,
+            @Value("${custom.security.passwordHash.waitMs:2000}") long waitMs) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, waitMs);
     }
 }
-
@@ -1,6 +1,8 @@
 package com.backend.global.security;
 
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService;
 import com.backend.global.exception.ErrorCode;
+import com.backend.global.rq.Rq;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +10,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
@@ -23,6 +26,11 @@ public class SecurityConfig {
 
     private final CustomAuthenticationFilter customAuthenticationFilter;
     private final CustomUserDetailsService customUserDetailsService;
+    private final FormLoginThrottleFilter formLoginThrottleFilter;
+    private final ApiRateLimitFilter apiRateLimitFilter;
+    private final AdminLoginSuccessHandler adminLoginSuccessHandler;
+    private final AdminRefreshTokenService adminRefreshTokenService;
+    private final Rq rq;
 
     @Bean
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -36,40 +44,50 @@ public class SecurityConfig {
                         // 2) 공개 API (순서 중요!)
                         .requestMatchers(HttpMethod.GET,  "/api/v1/products/**").permitAll()
                         .requestMatchers(HttpMethod.GET,  "/api/v1/orders/**").permitAll()
+                        .requestMatchers(HttpMethod.GET,  "/api/v1/admin/orders/export").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET,  "/api/v1/admin/orders/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/orders").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/orders/async").permitAll()
                         .requestMatchers(HttpMethod.PUT,    "/api/v1/orders/**").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/orders/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/admin/login", "/api/v1/admin/token/refresh").permitAll()
 
                         // 3) 관리자 전용 (나중에!)
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
 
                         // 4) 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
                 .csrf(csrf -> csrf.disable())
+                // 세션을 만들지 않음 - 요청마다 JWT 로 인증하므로 어느 노드에서든 처리 가능 (sticky session 불필요)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .headers(headers -> headers.addHeaderWriter(
                         new XFrameOptionsHeaderWriter(XFrameOptionsHeaderWriter.XFrameOptionsMode.SAMEORIGIN)))
                 .formLogin(form -> form
                         .loginPage("/login")
-                        .defaultSuccessUrl("/admin/dashboard", true)
+                        .successHandler(adminLoginSuccessHandler)
                         .failureUrl("/login?error=true")
                         .permitAll())
                 .userDetailsService(customUserDetailsService)
                 .logout(logout -> logout
                         .logoutUrl("/logout")
                         .logoutSuccessUrl("/login")
-                        .invalidateHttpSession(true)
-                        .deleteCookies("accessToken")
+                        .addLogoutHandler((req, res, auth) -> adminRefreshTokenService.revoke(rq.getCookieValue("refreshToken", "")))
+                        .deleteCookies("accessToken", "refreshToken")
                         .permitAll())
+                .addFilterBefore(apiRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(formLoginThrottleFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint((req, res, ex0) -> {
                             if (req.getRequestURI().startsWith("/admin")) {
                                 res.sendRedirect("/login");
                             } else {
-                                ErrorCode ec = ErrorCode.ACCESS_TOKEN_NOT_FOUND;
+                                ErrorCode ec = req.getAttribute(CustomAuthenticationFilter.ACCESS_TOKEN_INVALID_ATTRIBUTE) != null
+                                        ? ErrorCode.ACCESS_TOKEN_INVALID
+                                        : ErrorCode.ACCESS_TOKEN_NOT_FOUND;
                                 res.setContentType(MediaType.APPLICATION_JSON_VALUE);
                                 res.setStatus(ec.getStatus().value());
                                 res.getWriter().write("""
@@ -101,6 +119,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("https://cdpn.io", "http://localhost:3000", "http://localhost:5173"));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("Idempotent-Replayed", "ETag", "Retry-After"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,131 @@
+package com.backend.standard.ratelimit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 토큰 버킷 모음
+ * - 키 해시로 나눈 여러 칸(stripe)마다 락을 따로 두어 서로 다른 키의 요청끼리 경합하지 않음
+ * - 칸마다 최근 사용 순 맵을 두고, 오래 쓰이지 않은 버킷(idleTimeout)과 최대 개수를 넘은 버킷은 접근 시 제거
+ * - synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지), 락 안에서는 I/O 없음
+ */
+public class TokenBucketRegistry {
+
+    private final Stripe[] stripes;
+    private final int maxKeysPerStripe;
+    private final long idleTimeoutNanos;
+
+    /**
+     * 버킷 설정
+     * @param capacity 최대 토큰 수 (한 번에 허용하는 최대 요청 수)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     */
+    public record Limit(int capacity, double refillPerSecond) {
+        public static Limit perMinute(int capacity, int refillPerMinute) {
+            return new Limit(capacity, refillPerMinute / 60.0);
+        }
+    }
+
+    // allowed = false 이면 retryAfterMillis 뒤에 토큰 1개가 생김
+    public record Decision(boolean allowed, long retryAfterMillis) {
+        public long retryAfterSeconds() {
+            return Math.max(1, (retryAfterMillis + 999) / 1000);
+        }
+    }
+
+    public TokenBucketRegistry(int stripeCount, int maxKeys, Duration idleTimeout) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxKeysPerStripe = Math.max(1, maxKeys / count);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    public Decision tryAcquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(now, idleTimeoutNanos);
+
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(limit.capacity(), now);
+                stripe.buckets.put(key, bucket);
+                if (stripe.buckets.size() > maxKeysPerStripe) {
+                    Iterator<Bucket> eldest = stripe.buckets.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            return bucket.tryConsume(limit, now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        // accessOrder = true: 가장 오래 사용되지 않은 버킷이 맨 앞
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+
+        void evictIdle(long now, long idleTimeoutNanos) {
+            Iterator<Map.Entry<String, Bucket>> it = buckets.entrySet().iterator();
+            while (it.hasNext()) {
+                if (now - it.next().getValue().lastAccessNanos < idleTimeoutNanos) {
+                    break;
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastAccessNanos;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+            this.lastAccessNanos = now;
+        }
+
+        Decision tryConsume(Limit limit, long now) {
+            double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+            tokens = Math.min(limit.capacity(), tokens + elapsedSeconds * limit.refillPerSecond());
+            lastRefillNanos = now;
+            lastAccessNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new Decision(true, 0);
+            }
+            long waitMillis = (long) Math.ceil((1 - tokens) / limit.refillPerSecond() * 1000);
+            return new Decision(false, waitMillis);
+        }
+    }
+}
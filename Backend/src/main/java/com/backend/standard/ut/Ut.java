@@ -2,18 +2,60 @@ package com.backend.standard.ut;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 
 public class Ut {
+    public static class etag {
+        // 버전 정보 문자열로 강한 ETag 생성 (응답 본문이 아니라 버전 값만 해시)
+        public static String of(String prefix, String versions) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(versions.getBytes(StandardCharsets.UTF_8));
+                return "\"" + prefix + HexFormat.of().formatHex(Arrays.copyOf(digest, 12)) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public static class hash {
+        // SHA-256 16진수 문자열 (토큰 등 원문을 키/저장값으로 쓰지 않을 때)
+        public static String sha256(String value) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     public static class jwt {
+        // 서명 키 - 호출마다 만들지 않도록 호출하는 쪽에서 한 번 만들어 재사용
+        public static SecretKey secretKey(String secretPattern) {
+            return Keys.hmacShaKeyFor(secretPattern.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 검증 파서 (불변, 스레드 안전 - 재사용)
+        public static JwtParser parser(SecretKey secretKey) {
+            return Jwts.parser().verifyWith(secretKey).build();
+        }
+
         public static String toString(String secret, long expireSeconds, Map<String, Object> body) {
+            return toString(secretKey(secret), expireSeconds, body);
+        }
+
+        public static String toString(SecretKey secretKey, long expireSeconds, Map<String, Object> body) {
             ClaimsBuilder claimsBuilder = Jwts.claims();
 
             for (Map.Entry<String, Object> entry : body.entrySet()) {
@@ -25,8 +67,6 @@ public class Ut {
             Date issuedAt = new Date();
             Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
 
-            Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
             String jwt = Jwts.builder()
                     .claims(claims)
                     .issuedAt(issuedAt)
@@ -37,38 +77,21 @@ public class Ut {
             return jwt;
         }
 
-        public static boolean isValid(String jwt, String secretPattern) {
-
-            SecretKey secretKey = Keys.hmacShaKeyFor(secretPattern.getBytes(StandardCharsets.UTF_8));
-
+        // 서명/만료 검증을 한 번만 하고 클레임 반환 (유효하지 않으면 null)
+        public static Claims claimsOrNull(String jwt, JwtParser parser) {
             try {
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(jwt);
-
-            } catch (Exception e) {
-                return false;
+                return parser.parseSignedClaims(jwt).getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                return null;
             }
+        }
 
-            return true;
+        public static boolean isValid(String jwt, String secretPattern) {
+            return claimsOrNull(jwt, parser(secretKey(secretPattern))) != null;
         }
 
         public static Map<String, Object> payloadOrNull(String jwt, String secretPattern) {
-
-            SecretKey secretKey = Keys.hmacShaKeyFor(secretPattern.getBytes(StandardCharsets.UTF_8));
-
-            if(isValid(jwt, secretPattern)) {
-                return (Map<String, Object>) Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(jwt)
-                        .getPayload();
-            }
-
-            return null;
+            return claimsOrNull(jwt, parser(secretKey(secretPattern)));
         }
     }
-}
\ No newline at end of file
+}
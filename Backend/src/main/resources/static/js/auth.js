@@ -28,7 +28,8 @@ function login(username, password) {
  */
 function logout() {
     localStorage.removeItem(AUTH_TOKEN_KEY);
-    window.location.href = '/login';
+    // 서버에서 리프레시 토큰 폐기 + 토큰 쿠키 삭제 후 /login 으로 이동
+    window.location.href = '/logout';
 }
 
 /**
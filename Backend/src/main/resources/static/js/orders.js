@@ -5,15 +5,53 @@
  */
 
 const API_BASE_URL = "/api/v1/admin";
+const ORDERS_PAGE_SIZE = 20;
+
+// 현재 페이지 (0부터 시작)
+let currentPage = 0;
 
 /**
- * 주문 목록 로드
+ * 필터 입력값으로 목록 조회 쿼리 생성
+ * @param {number} page - 페이지 번호
+ * @returns {URLSearchParams} 쿼리 파라미터
  */
-async function loadOrders() {
+function buildOrderListQuery(page) {
+  const params = new URLSearchParams({
+    page: String(page),
+    size: String(ORDERS_PAGE_SIZE),
+  });
+
+  const filters = {
+    status: document.getElementById("statusFilter")?.value,
+    from: document.getElementById("fromDateFilter")?.value,
+    to: document.getElementById("toDateFilter")?.value,
+    emailPrefix: document.getElementById("emailPrefixFilter")?.value?.trim(),
+    zipCode: document.getElementById("zipCodeFilter")?.value?.trim(),
+  };
+  Object.entries(filters).forEach(([key, value]) => {
+    if (value) params.append(key, value);
+  });
+
+  const [sort, direction] = (
+    document.getElementById("sortFilter")?.value || "orderDate,desc"
+  ).split(",");
+  params.append("sort", sort);
+  params.append("direction", direction);
+
+  return params;
+}
+
+/**
+ * 주문 목록 로드 (서버 페이지 단위)
+ * @param {number} page - 페이지 번호 (생략 시 현재 페이지)
+ */
+async function loadOrders(page = currentPage) {
   try {
     showTableState("loading", { message: "주문 목록을 불러오는 중..." });
 
-    const response = await fetch(`${API_BASE_URL}/orders`);
+    const response = await fetch(
+      `${API_BASE_URL}/orders?${buildOrderListQuery(page)}`
+    );
 
     if (!response.ok) {
       throw new Error(`HTTP ${response.status}: ${response.statusText}`);
@@ -24,7 +62,9 @@ async function loadOrders() {
 
     // RsData 구조에서 실제 데이터 추출
     if (result.resultCode === "200-1" && result.data && result.data.orders) {
+      currentPage = result.data.page;
       renderOrders(result.data.orders);
+      renderPagination(result.data);
     } else {
       throw new Error(result.msg || "주문 목록을 불러올 수 없습니다.");
     }
@@ -37,6 +77,53 @@ async function loadOrders() {
   }
 }
 
+/**
+ * 필터 적용 - 첫 페이지부터 다시 조회
+ */
+function applyOrderFilters() {
+  loadOrders(0);
+}
+
+/**
+ * 주문 내보내기 - 주문일 필터 기간만 다운로드
+ * @param {string} format - csv | ndjson
+ */
+function exportOrders(format) {
+  const params = new URLSearchParams({ format });
+  const from = document.getElementById("fromDateFilter")?.value;
+  const to = document.getElementById("toDateFilter")?.value;
+  if (from) params.append("from", from);
+  if (to) params.append("to", to);
+
+  window.location.href = `${API_BASE_URL}/orders/export?${params}`;
+}
+
+/**
+ * 페이지 이동 버튼 렌더링
+ * @param {object} pageData - AdminOrdersPageResBody
+ */
+function renderPagination(pageData) {
+  const container = document.getElementById("ordersPagination");
+  if (!container) return;
+
+  if (!pageData || pageData.totalPages <= 1) {
+    container.style.display = "none";
+    return;
+  }
+
+  const { page, totalPages, totalElements, hasNext } = pageData;
+  container.innerHTML = `
+        <button class="btn btn-secondary btn-sm" onclick="loadOrders(${
+          page - 1
+        })" ${page <= 0 ? "disabled" : ""}>이전</button>
+        <span class="pagination-info">${page + 1} / ${totalPages} (총 ${totalElements}건)</span>
+        <button class="btn btn-secondary btn-sm" onclick="loadOrders(${
+          page + 1
+        })" ${hasNext ? "" : "disabled"}>다음</button>
+    `;
+  container.style.display = "flex";
+}
+
 /**
  * 주문 목록 렌더링
  * @param {Array} orders - 주문 배열
@@ -698,6 +785,7 @@ async function searchByEmail() {
 
   try {
     showTableState("loading", { message: "이메일로 주문을 검색하는 중..." });
+    renderPagination(null); // 검색 결과는 페이지 없이 표시
 
     const response = await fetch(
       `${API_BASE_URL}/orders?email=${encodeURIComponent(email)}`
@@ -743,6 +831,7 @@ async function searchByOrderId() {
 
   try {
     showTableState("loading", { message: "주문 ID로 검색하는 중..." });
+    renderPagination(null); // 검색 결과는 페이지 없이 표시
 
     const response = await fetch(`${API_BASE_URL}/orders/${orderId}`);
 
@@ -779,13 +868,24 @@ async function searchByOrderId() {
  * 검색 초기화 및 전체 목록 로드
  */
 function clearSearch() {
-  const emailInput = document.getElementById("emailSearch");
-  const orderIdInput = document.getElementById("orderIdSearch");
+  const inputIds = [
+    "emailSearch",
+    "orderIdSearch",
+    "statusFilter",
+    "fromDateFilter",
+    "toDateFilter",
+    "emailPrefixFilter",
+    "zipCodeFilter",
+  ];
+  inputIds.forEach((id) => {
+    const input = document.getElementById(id);
+    if (input) input.value = "";
+  });
 
-  if (emailInput) emailInput.value = "";
-  if (orderIdInput) orderIdInput.value = "";
+  const sortFilter = document.getElementById("sortFilter");
+  if (sortFilter) sortFilter.value = "orderDate,desc";
 
-  loadOrders();
+  loadOrders(0);
 }
 
 // 전역 함수로 등록
@@ -802,3 +902,5 @@ window.handleOrderUpdate = handleOrderUpdate;
 window.searchByEmail = searchByEmail;
 window.searchByOrderId = searchByOrderId;
 window.clearSearch = clearSearch;
+window.applyOrderFilters = applyOrderFilters;
+window.exportOrders = exportOrders;
@@ -225,6 +225,7 @@ function resetProductForm() {
   const form = document.getElementById("productForm");
   if (form) {
     form.reset();
+    delete form.dataset.baseQuantity;
     hideFormError();
   }
 }
@@ -273,6 +274,8 @@ async function fillFormWithProductData(productId) {
       document.getElementById("productPrice").value =
         product.productPrice || "";
       document.getElementById("productQuantity").value = product.quantity || 0;
+      // 수정 시 불러온 재고를 함께 보내 그 사이 주문으로 줄어든 재고가 되돌아가지 않도록 함
+      document.getElementById("productForm").dataset.baseQuantity = product.quantity || 0;
       document.getElementById("productDescription").value =
         product.description || "";
       document.getElementById("productImageUrl").value = product.imageUrl || "";
@@ -320,6 +323,10 @@ async function handleProductSubmit() {
       imageUrl: formData.get("imageUrl") || null,
     };
 
+    if (currentProductId !== null && form.dataset.baseQuantity !== undefined) {
+      productData.baseQuantity = parseInt(form.dataset.baseQuantity);
+    }
+
     console.log("전송할 상품 데이터:", productData); // 디버깅용
 
     const isEdit = currentProductId !== null;
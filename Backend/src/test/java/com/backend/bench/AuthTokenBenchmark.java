@@ -0,0 +1,76 @@
+package com.backend.bench;
+
+import com.backend.domain.admin.auth.service.AuthTokenService;
+import com.backend.standard.ut.Ut;
+import io.jsonwebtoken.JwtParser;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 액세스 토큰 검증 마이크로 벤치마크 (서명 키/파서/검증 결과 캐시 전후 비교)
+ *
+ * ./gradlew tokenBenchmark -PbenchArgs="5 1"
+ *
+ * 인자: 측정 라운드 수(기본 5), 라운드당 시간(초, 기본 1) - 같은 횟수의 워밍업 라운드를 먼저 실행
+ * - before: 요청마다 키와 파서를 새로 만들고 isValid + payloadOrNull 로 두 번 검증 (캐시 도입 전 필터 경로)
+ * - parser: 기동 시 만든 파서로 한 번만 검증
+ * - cached: AuthTokenService.getPayloadOrNull (검증된 payload 캐시 적중)
+ */
+public class AuthTokenBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    // JIT 가 결과를 버리지 않도록 모아 둠
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        AuthTokenService authTokenService = new AuthTokenService();
+        ReflectionTestUtils.setField(authTokenService, "secretPattern", SECRET);
+        ReflectionTestUtils.setField(authTokenService, "expireSeconds", 3600L);
+        ReflectionTestUtils.setField(authTokenService, "verifiedCacheSize", 10_000);
+        ReflectionTestUtils.setField(authTokenService, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(authTokenService, "init");
+
+        String token = authTokenService.genAccessToken(1, "admin");
+        JwtParser parser = Ut.jwt.parser(Ut.jwt.secretKey(SECRET));
+
+        Map<String, Supplier<Object>> cases = new LinkedHashMap<>();
+        cases.put("before", () -> Ut.jwt.isValid(token, SECRET) ? Ut.jwt.payloadOrNull(token, SECRET) : null);
+        cases.put("parser", () -> Ut.jwt.claimsOrNull(token, parser));
+        cases.put("cached", () -> authTokenService.getPayloadOrNull(token));
+
+        System.out.printf("rounds=%d, seconds=%d%n", rounds, seconds);
+        cases.forEach((name, op) -> {
+            measure(op, rounds, seconds);   // 워밍업
+            double nsPerOp = measure(op, rounds, seconds);
+            System.out.printf("%-8s %,12.1f ns/op %,14.0f ops/s%n", name, nsPerOp, 1e9 / nsPerOp);
+        });
+    }
+
+    // 라운드별 ns/op 의 평균
+    private static double measure(Supplier<Object> op, int rounds, int seconds) {
+        double total = 0;
+        for (int r = 0; r < rounds; r++) {
+            long ops = 0;
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+            long now;
+            do {
+                for (int i = 0; i < 100; i++) {
+                    sink += op.get() == null ? 0 : 1;
+                }
+                ops += 100;
+                now = System.nanoTime();
+            } while (now < deadline);
+            total += (double) (now - start) / ops;
+        }
+        return total / rounds;
+    }
+}
@@ -0,0 +1,92 @@
+package com.backend.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 클라이언트 처리량 측정 (플랫폼 스레드 vs 가상 스레드 비교용)
+ *
+ * 1) 서버 실행: ./gradlew bootRun --args='--spring.threads.virtual.enabled=false --custom.rateLimit.enabled=false'
+ * 2) 측정:     ./gradlew loadBenchmark -PbenchArgs="http://localhost:8080 1000 30"
+ * 3) 서버를 --spring.threads.virtual.enabled=true 로 다시 띄워 같은 조건으로 측정 후 비교
+ * (모든 클라이언트가 같은 IP 이므로 요청 수 제한을 끄지 않으면 대부분 429 로 끝남)
+ *
+ * 인자: baseUrl, 동시 클라이언트 수(기본 1000), 측정 시간(초, 기본 30)
+ * 각 클라이언트는 주문 상세 조회를 번갈아 호출 - 캐시 없이 매번 DB 를 조회하는 블로킹 JPA 경로
+ * (상품 조회는 카탈로그 스냅샷, 이메일 주문 목록 첫 페이지는 주문 내역 캐시에서 응답하므로 측정 대상에서 제외)
+ */
+public class OrdersLoadBenchmark {
+
+    private static final List<String> PATHS = List.of(
+            "/api/v1/orders/1",
+            "/api/v1/orders/2"
+    );
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        LongAdder ok = new LongAdder();
+        LongAdder failed = new LongAdder();
+        List<long[]> latencies = new ArrayList<>(clients);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                long[] samples = new long[10_000];
+                latencies.add(samples);
+                int clientNo = c;
+
+                executor.submit(() -> {
+                    int i = 0;
+                    while (System.nanoTime() < deadline) {
+                        String path = PATHS.get((clientNo + i) % PATHS.size());
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() < 500) ok.increment(); else failed.increment();
+                        } catch (Exception e) {
+                            failed.increment();
+                        }
+                        if (i < samples.length) samples[i] = System.nanoTime() - start;
+                        i++;
+                    }
+                    return null;
+                });
+            }
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).filter(v -> v > 0).sorted().toArray();
+        System.out.printf("clients=%d, duration=%ds%n", clients, seconds);
+        System.out.printf("throughput: %.1f req/s (ok=%d, failed=%d)%n",
+                (ok.sum() + failed.sum()) / (double) seconds, ok.sum(), failed.sum());
+        if (all.length > 0) {
+            System.out.printf("latency p50=%dms p99=%dms max=%dms%n",
+                    toMillis(all[all.length / 2]), toMillis(all[(int) (all.length * 0.99)]), toMillis(all[all.length - 1]));
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
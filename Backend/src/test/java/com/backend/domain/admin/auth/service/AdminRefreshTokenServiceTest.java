@@ -0,0 +1,68 @@
+package com.backend.domain.admin.auth.service;
+
+import com.backend.domain.admin.auth.entity.Admin;
+import com.backend.domain.admin.auth.service.AdminRefreshTokenService.IssuedTokens;
+import com.backend.global.exception.ErrorCode;
+import com.backend.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 리프레시 토큰 재사용 - 유예 시간 안의 동시 요청과 탈취 구분
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminRefreshTokenServiceTest {
+
+    @Autowired
+    private AdminRefreshTokenService adminRefreshTokenService;
+    @Autowired
+    private AdminAuthService adminAuthService;
+
+    @Test
+    @DisplayName("유예 시간 안에 같은 토큰이 다시 들어오면 방금 발급한 토큰을 그대로 반환한다")
+    void reuseWithinGraceReturnsSuccessor() {
+        IssuedTokens login = login();
+
+        IssuedTokens rotated = adminRefreshTokenService.rotate(login.refreshToken());
+        IssuedTokens retried = adminRefreshTokenService.rotate(login.refreshToken());
+
+        assertThat(retried).isEqualTo(rotated);
+        // family 는 유지되어 새 토큰으로 계속 재발급 가능
+        assertThat(adminRefreshTokenService.rotate(rotated.refreshToken()).refreshToken())
+                .isNotEqualTo(rotated.refreshToken());
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 재사용은 탈취로 보고 family 전체를 폐기한다")
+    void reuseAfterGraceRevokesFamily() {
+        long graceSeconds = (long) ReflectionTestUtils.getField(adminRefreshTokenService, "reuseGraceSeconds");
+        ReflectionTestUtils.setField(adminRefreshTokenService, "reuseGraceSeconds", 0L);
+        try {
+            IssuedTokens login = login();
+            IssuedTokens rotated = adminRefreshTokenService.rotate(login.refreshToken());
+
+            assertErrorCode(login.refreshToken(), ErrorCode.REFRESH_TOKEN_REUSED);
+            assertErrorCode(rotated.refreshToken(), ErrorCode.REFRESH_TOKEN_REUSED);
+        } finally {
+            ReflectionTestUtils.setField(adminRefreshTokenService, "reuseGraceSeconds", graceSeconds);
+        }
+    }
+
+    private IssuedTokens login() {
+        Admin admin = adminAuthService.join("refresh-" + UUID.randomUUID().toString().substring(0, 8), "1234");
+        return adminRefreshTokenService.issue(admin.getId(), admin.getUsername());
+    }
+
+    private void assertErrorCode(String refreshToken, ErrorCode errorCode) {
+        assertThatThrownBy(() -> adminRefreshTokenService.rotate(refreshToken))
+                .isInstanceOfSatisfying(ServiceException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+    }
+}
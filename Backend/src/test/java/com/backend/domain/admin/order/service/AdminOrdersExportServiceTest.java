@@ -0,0 +1,30 @@
+package com.backend.domain.admin.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminOrdersExportServiceTest {
+
+    @Test
+    @DisplayName("수식으로 해석될 수 있는 고객 입력은 ' 를 붙여 문자열로 내보낸다")
+    void neutralizesFormulaCells() {
+        assertThat(AdminOrdersExportService.toCsvCell("=HYPERLINK(\"http://evil\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\")\"");
+        assertThat(AdminOrdersExportService.toCsvCell("+1+1")).isEqualTo("'+1+1");
+        assertThat(AdminOrdersExportService.toCsvCell("-2+3")).isEqualTo("'-2+3");
+        assertThat(AdminOrdersExportService.toCsvCell("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(AdminOrdersExportService.toCsvCell("\t=1")).isEqualTo("'\t=1");
+        assertThat(AdminOrdersExportService.toCsvCell("\r=1")).isEqualTo("\"'\r=1\"");
+    }
+
+    @Test
+    @DisplayName("일반 값과 숫자는 그대로, 구분자가 있으면 따옴표로 감싼다")
+    void keepsPlainValues() {
+        assertThat(AdminOrdersExportService.toCsvCell("aaa@naver.com")).isEqualTo("aaa@naver.com");
+        assertThat(AdminOrdersExportService.toCsvCell("서울시 강남구, 101호")).isEqualTo("\"서울시 강남구, 101호\"");
+        assertThat(AdminOrdersExportService.toCsvCell(-3)).isEqualTo("-3");
+        assertThat(AdminOrdersExportService.toCsvCell(null)).isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package com.backend.domain.admin.product.service;
+
+import com.backend.domain.admin.product.dto.AdminProductRequestDto;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.repository.ProductRepository;
+import com.backend.domain.product.repository.StockJournalRepository;
+import com.backend.domain.product.service.ProductStockService;
+import com.backend.domain.product.service.StockLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재고 장부(저널) 사용 시 관리자 상품 수정이 주문 차감을 되돌리지 않는지 확인
+@SpringBootTest(properties = {
+        "custom.stock.ledger.enabled=true",
+        "custom.stock.ledger.flushIntervalMs=3600000"
+})
+@ActiveProfiles("test")
+class AdminProductServiceStockTest {
+
+    @Autowired
+    private AdminProductService adminProductService;
+    @Autowired
+    private ProductStockService productStockService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private StockJournalRepository stockJournalRepository;
+    @Autowired
+    private StockLedger stockLedger;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("수정 화면을 연 뒤 들어온 주문 차감은 설명만 수정해도 유지된다")
+    void descriptionEditKeepsOrderDecrement() {
+        int productId = newProduct(10);
+        AdminProductRequestDto request = editRequest(10, 10);
+
+        productStockService.decrease(productId, 3);
+        adminProductService.updateProduct(productId, request);
+
+        assertThat(stockOf(productId)).isEqualTo(7);
+        assertThat(stockJournalRepository.sumDeltaByProductId(productId)).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 수정은 화면에서 바꾼 만큼만 반영된다")
+    void quantityEditAppliesOnlyAdminDelta() {
+        int productId = newProduct(10);
+        AdminProductRequestDto request = editRequest(10, 15);
+
+        productStockService.decrease(productId, 3);
+        adminProductService.updateProduct(productId, request);
+
+        assertThat(stockOf(productId)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("관리자 수정 트랜잭션 도중 커밋된 주문 차감도 유지된다")
+    void orderCommittedDuringAdminEditIsKept() {
+        int productId = newProduct(10);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adminProductService.updateProduct(productId, editRequest(10, 20));
+            CompletableFuture.runAsync(() -> productStockService.decrease(productId, 3)).join();
+        });
+
+        assertThat(stockOf(productId)).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("커밋 전 주문 예약이 있는 동안 관리자가 재고를 늘려도 장부와 DB 재고가 어긋나지 않는다")
+    void adminIncreaseKeepsInFlightReservation() throws Exception {
+        int productId = newProduct(10);
+
+        try (PendingOrder order = PendingOrder.reserve(this, productId, 3)) {
+            adminProductService.updateProduct(productId, editRequest(10, 20));
+            // 관리자 수정 이후의 새 주문
+            productStockService.decrease(productId, 1);
+            order.commit();
+        }
+
+        assertThat(stockOf(productId)).isEqualTo(16);
+        assertThat(stockLedger.available(productId)).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("커밋 전 주문 예약이 있는 동안 관리자가 재고를 0 으로 줄여도 DB 재고가 음수가 되지 않는다")
+    void adminDecreaseDoesNotTakeInFlightReservation() throws Exception {
+        int productId = newProduct(10);
+
+        try (PendingOrder order = PendingOrder.reserve(this, productId, 3)) {
+            adminProductService.updateProduct(productId, editRequest(10, 0));
+            order.commit();
+        }
+        productStockService.flushJournal(500);
+
+        assertThat(productRepository.findQuantityById(productId)).contains(0);
+        assertThat(stockLedger.available(productId)).isZero();
+    }
+
+    @Test
+    @DisplayName("관리자 수정 전에 예약한 주문이 롤백되면 예약분만 돌아온다")
+    void rollbackAfterAdminEditReleasesOnlyReservation() throws Exception {
+        int productId = newProduct(10);
+
+        try (PendingOrder order = PendingOrder.reserve(this, productId, 3)) {
+            adminProductService.updateProduct(productId, editRequest(10, 20));
+            order.rollback();
+        }
+
+        assertThat(stockOf(productId)).isEqualTo(20);
+        assertThat(stockLedger.available(productId)).isEqualTo(20);
+    }
+
+    // 다른 스레드에서 재고를 예약하고 커밋/롤백 신호를 기다리는 주문 트랜잭션
+    private static final class PendingOrder implements AutoCloseable {
+        private final CountDownLatch reserved = new CountDownLatch(1);
+        private final CountDownLatch finish = new CountDownLatch(1);
+        private volatile boolean commit;
+        private CompletableFuture<Void> future;
+
+        static PendingOrder reserve(AdminProductServiceStockTest test, int productId, int quantity) throws InterruptedException {
+            PendingOrder order = new PendingOrder();
+            order.future = CompletableFuture.runAsync(() ->
+                    new TransactionTemplate(test.transactionManager).executeWithoutResult(status -> {
+                        test.productStockService.decrease(productId, quantity);
+                        order.reserved.countDown();
+                        try {
+                            order.finish.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        if (!order.commit) {
+                            status.setRollbackOnly();
+                        }
+                    }));
+            assertThat(order.reserved.await(10, TimeUnit.SECONDS)).isTrue();
+            return order;
+        }
+
+        void commit() {
+            commit = true;
+            finish.countDown();
+            future.join();
+        }
+
+        void rollback() {
+            finish.countDown();
+            future.join();
+        }
+
+        @Override
+        public void close() {
+            finish.countDown();
+        }
+    }
+
+    private int newProduct(int quantity) {
+        return productRepository.save(Product.builder()
+                .productName("테스트 원두")
+                .productPrice(5000)
+                .quantity(quantity)
+                .description("설명")
+                .build()).getProductId();
+    }
+
+    private AdminProductRequestDto editRequest(int baseQuantity, int quantity) {
+        AdminProductRequestDto request = new AdminProductRequestDto();
+        request.setProductName("테스트 원두");
+        request.setProductPrice(5000);
+        request.setQuantity(quantity);
+        request.setBaseQuantity(baseQuantity);
+        request.setDescription("설명 수정");
+        return request;
+    }
+
+    // DB 재고 + 아직 반영되지 않은 저널
+    private int stockOf(int productId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                productRepository.findQuantityById(productId).orElseThrow()
+                        + stockJournalRepository.sumDeltaByProductId(productId).intValue());
+    }
+}
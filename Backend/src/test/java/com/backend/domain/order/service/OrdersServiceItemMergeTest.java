@@ -0,0 +1,110 @@
+package com.backend.domain.order.service;
+
+import com.backend.domain.order.entity.OrderStatus;
+import com.backend.domain.order.entity.Orders;
+import com.backend.domain.order.entity.OrdersDetail;
+import com.backend.domain.order.repository.OrdersRepository;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 상품이 여러 줄로 들어온 주문 생성/수정
+@SpringBootTest
+@ActiveProfiles("test")
+class OrdersServiceItemMergeTest {
+
+    @Autowired
+    private OrdersService ordersService;
+    @Autowired
+    private OrdersRepository ordersRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("주문 생성 시 같은 상품 여러 줄은 주문 상세 하나로 합산된다")
+    void createMergesDuplicateLines() {
+        int productId = newProduct(10);
+
+        Orders orders = ordersService.createOrders("merge@test.com", "서울시", 12345, List.of(
+                new OrdersService.OrderItem(productId, 2),
+                new OrdersService.OrderItem(productId, 3)
+        ));
+
+        assertThat(quantitiesOf(orders.getId())).containsExactly(5);
+        assertThat(orders.getTotalPrice()).isEqualTo(5000 * 5);
+        assertThat(stockOf(productId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 상품 상세가 여러 개인 기존 주문도 수정 시 하나로 합쳐진다")
+    void updateFoldsExistingDuplicateDetails() {
+        int productId = newProduct(10);
+        int orderId = newOrderWithDuplicateDetails(productId, 2, 3);
+
+        ordersService.updateOrders(orderId, null, null, List.of(new OrdersService.OrderItem(productId, 4)));
+
+        assertThat(quantitiesOf(orderId)).containsExactly(4);
+        // 합산 수량 5 → 4 이므로 재고 1 복원
+        assertThat(stockOf(productId)).isEqualTo(11);
+    }
+
+    private int newProduct(int quantity) {
+        return productRepository.save(Product.builder()
+                .productName("테스트 원두")
+                .productPrice(5000)
+                .quantity(quantity)
+                .description("설명")
+                .build()).getProductId();
+    }
+
+    // 합산 처리 전에 만들어진 주문처럼 상세를 직접 저장 (재고는 차감하지 않음)
+    private int newOrderWithDuplicateDetails(int productId, int... quantities) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+
+            Orders orders = new Orders();
+            orders.setEmail("merge@test.com");
+            orders.setAddress("서울시");
+            orders.setZipCode(12345);
+            orders.setOrderDate(LocalDateTime.now());
+            orders.setStatus(OrderStatus.PENDING);
+
+            int totalPrice = 0;
+            for (int quantity : quantities) {
+                OrdersDetail detail = new OrdersDetail();
+                detail.setProduct(product);
+                detail.setOrderQuantity(quantity);
+                detail.setPrice(product.getProductPrice() * quantity);
+                orders.addDetail(detail);
+                totalPrice += detail.getPrice();
+            }
+            orders.setTotalPrice(totalPrice);
+
+            return ordersRepository.save(orders).getId();
+        });
+    }
+
+    private List<Integer> quantitiesOf(int orderId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                ordersRepository.findById(orderId).orElseThrow().getOrderDetails().stream()
+                        .map(OrdersDetail::getOrderQuantity)
+                        .toList());
+    }
+
+    private int stockOf(int productId) {
+        return productRepository.findQuantityById(productId).orElseThrow();
+    }
+}
@@ -0,0 +1,110 @@
+package com.backend.global.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 노드마다 SchedulerLeaseService 를 따로 만들어 (보유자가 다름) 같은 DB 에서 lease 를 다투게 함
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLeaseServiceTest {
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("비어 있는 lease 는 가져가고, 보유 중인 lease 는 다른 노드가 가져가지 못한다")
+    void acquireAndContention() {
+        String jobName = newJobName();
+        SchedulerLeaseService nodeA = node(300, 60);
+        SchedulerLeaseService nodeB = node(300, 60);
+
+        Optional<SchedulerLeaseService.Lease> lease = nodeA.tryAcquire(jobName);
+
+        assertThat(lease).isPresent();
+        assertThat(lease.get().token()).isEqualTo(1);
+        assertThat(nodeB.tryAcquire(jobName)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 lease 는 다른 노드가 가져가고, 이전 보유자의 토큰은 더 이상 유효하지 않다")
+    void expiredLeaseIsTakenOverAndOldTokenIsFenced() throws InterruptedException {
+        String jobName = newJobName();
+        SchedulerLeaseService nodeA = node(0, 0);
+        SchedulerLeaseService nodeB = node(300, 60);
+
+        SchedulerLeaseService.Lease stale = nodeA.tryAcquire(jobName).orElseThrow();
+        Thread.sleep(10);
+        SchedulerLeaseService.Lease current = nodeB.tryAcquire(jobName).orElseThrow();
+
+        assertThat(current.token()).isGreaterThan(stale.token());
+        assertThatThrownBy(() -> nodeA.assertHeld(stale))
+                .isInstanceOf(SchedulerLeaseService.LeaseLostException.class);
+
+        // 이전 보유자의 반납은 새 보유자의 lease 를 비우지 않음
+        nodeA.release(stale, "late");
+        nodeB.assertHeld(current);
+        assertThat(schedulerLeaseRepository.findById(jobName).orElseThrow().getOwner()).isEqualTo(current.owner());
+    }
+
+    @Test
+    @DisplayName("작업이 빨리 끝나도 최소 보유 시간 안에는 늦게 울린 다른 노드가 다시 실행하지 않는다")
+    void releaseKeepsLeaseForMinimumHold() {
+        String jobName = newJobName();
+        SchedulerLeaseService nodeA = node(300, 60);
+        SchedulerLeaseService nodeB = node(300, 60);
+
+        assertThat(nodeA.runExclusively(jobName, lease -> "done")).isTrue();
+        assertThat(nodeB.runExclusively(jobName, lease -> "again")).isFalse();
+
+        SchedulerLease row = schedulerLeaseRepository.findById(jobName).orElseThrow();
+        assertThat(row.getOwner()).isNull();
+        assertThat(row.getLastResult()).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("최소 보유 시간이 지난 뒤 반납하면 바로 다시 가져갈 수 있다")
+    void releaseAfterMinimumHoldFreesLease() {
+        String jobName = newJobName();
+        SchedulerLeaseService nodeA = node(300, 0);
+        SchedulerLeaseService nodeB = node(300, 0);
+
+        assertThat(nodeA.runExclusively(jobName, lease -> "done")).isTrue();
+        assertThat(nodeB.runExclusively(jobName, lease -> "next")).isTrue();
+    }
+
+    @Test
+    @DisplayName("보유 시간 없이 반납한 lease 는 최소 보유 시간 안에도 바로 다시 가져갈 수 있다")
+    void releaseWithoutHoldFreesLeaseImmediately() {
+        String jobName = newJobName();
+        SchedulerLeaseService nodeA = node(300, 60);
+        SchedulerLeaseService nodeB = node(300, 60);
+
+        nodeA.release(nodeA.tryAcquire(jobName).orElseThrow(), "manual", false);
+
+        assertThat(nodeB.tryAcquire(jobName)).isPresent();
+    }
+
+    private SchedulerLeaseService node(long ttlSeconds, long minHoldSeconds) {
+        SchedulerLeaseService node = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+        ReflectionTestUtils.setField(node, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(node, "minHoldSeconds", minHoldSeconds);
+        return node;
+    }
+
+    private String newJobName() {
+        return "test." + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
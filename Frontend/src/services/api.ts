@@ -6,6 +6,7 @@ import type {
   OrderUpdateResponse,
   OrderDeleteResponse,
   OrderHistory,
+  OrderHistoryPage,
   AddressInfo,
   BackendApiResponse,
   BackendOrderListResponse,
@@ -89,12 +90,16 @@ export async function createOrder(
   }
 }
 
-// 이메일로 주문내역 조회
+// 이메일로 주문내역 조회 (cursor 를 넘기면 다음 페이지)
 export async function getOrderHistoryByEmail(
-  email: string
-): Promise<OrderHistory[]> {
+  email: string,
+  cursor?: string
+): Promise<OrderHistoryPage> {
   try {
-    const url = `/api/v1/orders?email=${encodeURIComponent(email)}`;
+    let url = `/api/v1/orders?email=${encodeURIComponent(email)}`;
+    if (cursor) {
+      url += `&cursor=${encodeURIComponent(cursor)}`;
+    }
     console.log("API 호출 URL:", url);
     const response = await fetch(url, {
       credentials: "include",
@@ -114,7 +119,11 @@ export async function getOrderHistoryByEmail(
     }
 
     // 백엔드 응답을 프론트엔드 타입으로 변환
-    return apiResponse.data.orders.map(transformBackendOrderToFrontend);
+    return {
+      orders: apiResponse.data.orders.map(transformBackendOrderToFrontend),
+      nextCursor: apiResponse.data.nextCursor,
+      hasNext: apiResponse.data.hasNext,
+    };
   } catch (error) {
     console.error("주문내역 조회 실패:", error);
     throw error;
@@ -6,6 +6,7 @@ import type {
   OrderUpdateResponse,
   OrderDeleteResponse,
   OrderHistory,
+  OrderHistoryPage,
   AddressInfo,
 } from "../types";
 
@@ -58,13 +59,15 @@ export async function createOrder(
 
 // 이메일로 주문내역 조회
 export async function getOrderHistoryByEmail(
-  email: string
-): Promise<OrderHistory[]> {
+  email: string,
+  cursor?: string
+): Promise<OrderHistoryPage> {
   try {
-    return await apiService.getOrderHistoryByEmail(email);
+    return await apiService.getOrderHistoryByEmail(email, cursor);
   } catch (error) {
     console.warn("API 실패, Mock 데이터 사용:", error);
-    return await mockService.getOrderHistoryByEmailMock(email);
+    const orders = await mockService.getOrderHistoryByEmailMock(email);
+    return { orders, nextCursor: null, hasNext: false };
   }
 }
 
@@ -134,6 +137,7 @@ export type {
   OrderDeleteResponse,
   OrderHistory,
   OrderHistoryItem,
+  OrderHistoryPage,
   AddressInfo,
   BackendOrder,
   BackendOrderDto,
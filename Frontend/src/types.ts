@@ -76,6 +76,13 @@ export interface OrderHistory {
   items: OrderHistoryItem[];
 }
 
+// 주문 내역 페이지 (커서 기반)
+export interface OrderHistoryPage {
+  orders: OrderHistory[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 // 주소 정보 타입
 export interface AddressInfo {
   email: string;
@@ -129,6 +136,8 @@ export interface BackendApiResponse<T> {
 // 주문 목록 조회 응답
 export interface BackendOrderListResponse {
   orders: BackendOrder[];
+  nextCursor: string | null;
+  hasNext: boolean;
 }
 
 // 주문 상세 조회 응답
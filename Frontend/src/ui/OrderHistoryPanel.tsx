@@ -23,6 +23,8 @@ export function OrderHistoryPanel({ open, onClose }: OrderHistoryPanelProps) {
   const [email, setEmail] = useState("");
   const [orderHistory, setOrderHistory] = useState<OrderHistory[]>([]);
   const [loading, setLoading] = useState(false);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [actionLoading, setActionLoading] = useState<string | null>(null);
   const [selectedOrder, setSelectedOrder] = useState<OrderHistory | null>(null);
@@ -42,6 +44,7 @@ export function OrderHistoryPanel({ open, onClose }: OrderHistoryPanelProps) {
     if (!open) {
       setEmail("");
       setOrderHistory([]);
+      setNextCursor(null);
       setError(null);
       setActionLoading(null);
       setSelectedOrder(null);
@@ -66,22 +69,10 @@ export function OrderHistoryPanel({ open, onClose }: OrderHistoryPanelProps) {
     try {
       console.log("주문내역 조회 - 이메일:", email);
       // Mock 데이터를 사용하여 주문내역 조회
-      const orderData = await getOrderHistoryByEmail(email);
-      setOrderHistory(orderData);
-
-      // 각 주문별 배송 주소 정보도 함께 조회
-      const addressPromises = orderData.map((order) =>
-        getOrderAddressByOrderId(order.orderId).then((address) => ({
-          orderId: order.orderId,
-          address,
-        }))
-      );
-      const addressResults = await Promise.all(addressPromises);
-      const addressMap = addressResults.reduce((acc, { orderId, address }) => {
-        if (address) acc[orderId] = address;
-        return acc;
-      }, {} as Record<string, AddressInfo>);
-      setOrderAddresses(addressMap);
+      const page = await getOrderHistoryByEmail(email);
+      setOrderHistory(page.orders);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+      setOrderAddresses(await loadAddresses(page.orders));
     } catch (err) {
       setError(
         err instanceof Error
@@ -89,11 +80,52 @@ export function OrderHistoryPanel({ open, onClose }: OrderHistoryPanelProps) {
           : "주문내역을 불러오는데 실패했습니다."
       );
       setOrderHistory([]);
+      setNextCursor(null);
     } finally {
       setLoading(false);
     }
   };
 
+  // 다음 페이지 주문내역 조회
+  const handleLoadMore = async () => {
+    if (!nextCursor) return;
+
+    setLoadingMore(true);
+    setError(null);
+
+    try {
+      const page = await getOrderHistoryByEmail(email, nextCursor);
+      setOrderHistory((prev) => [...prev, ...page.orders]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+      const addressMap = await loadAddresses(page.orders);
+      setOrderAddresses((prev) => ({ ...prev, ...addressMap }));
+    } catch (err) {
+      setError(
+        err instanceof Error
+          ? err.message
+          : "주문내역을 불러오는데 실패했습니다."
+      );
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // 각 주문별 배송 주소 정보 조회
+  const loadAddresses = async (orders: OrderHistory[]) => {
+    const addressResults = await Promise.all(
+      orders.map((order) =>
+        getOrderAddressByOrderId(order.orderId).then((address) => ({
+          orderId: order.orderId,
+          address,
+        }))
+      )
+    );
+    return addressResults.reduce((acc, { orderId, address }) => {
+      if (address) acc[orderId] = address;
+      return acc;
+    }, {} as Record<string, AddressInfo>);
+  };
+
   const formatDate = (dateString: string) => {
     const date = new Date(dateString);
     return date.toLocaleDateString("ko-KR", {
@@ -338,6 +370,15 @@ export function OrderHistoryPanel({ open, onClose }: OrderHistoryPanelProps) {
                   </div>
                 </div>
               ))}
+              {nextCursor && (
+                <button
+                  className="search-button load-more-button"
+                  onClick={handleLoadMore}
+                  disabled={loadingMore}
+                >
+                  {loadingMore ? "불러오는 중..." : "더 보기"}
+                </button>
+              )}
             </div>
           )}
 